@@ -0,0 +1,56 @@
+package ru.clevertec.custom_collection.my_list;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>Flight Recorder event of a large reallocation of a list's array
+ * buffer.</p>
+ * <p>It is only loaded by {@link ListMetrics}, by name, when metrics are
+ * enabled and the JVM has Flight Recorder. It lives in the {@code jfr}
+ * source set, so the main sources compile against the Java 8 API.</p>
+ * @author  Olga Mailychko
+ * @see     ListMetrics
+ * @since   1.8
+ */
+@Name("ru.clevertec.custom_collection.LargeReallocation")
+@Label("Large List Reallocation")
+@Category("Custom Collections")
+@Description("Array buffer of a list reallocated to grow")
+final class LargeReallocationEvent extends Event {
+
+    @Label("List Class")
+    Class<?> listClass;
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Allocated")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Commits an event for each reallocation if a recording enables it.
+     */
+    static final class Recorder implements ListMetrics.ReallocationRecorder {
+
+        @Override
+        public void record(Class<?> listClass, int oldCapacity, int newCapacity, long bytes) {
+            LargeReallocationEvent event = new LargeReallocationEvent();
+            if (event.isEnabled()) {
+                event.listClass = listClass;
+                event.oldCapacity = oldCapacity;
+                event.newCapacity = newCapacity;
+                event.bytes = bytes;
+                event.commit();
+            }
+        }
+    }
+}
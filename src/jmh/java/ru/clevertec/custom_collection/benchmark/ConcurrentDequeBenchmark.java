@@ -0,0 +1,102 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.clevertec.custom_collection.my_list.ConcurrentLinkedDequeImpl;
+import ru.clevertec.custom_collection.my_list.LinkedListImpl;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures throughput of a deque shared by all benchmark threads, each
+ * of which offers an element at one end and polls one from the other.</p>
+ * <p>{@link #main} runs the benchmark with 1 to 32 threads and writes the
+ * results of every run to {@code build/reports/jmh/deque-contention-<threads>.json},
+ * which shows how throughput scales with contention.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ConcurrentDequeBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+
+    /**
+     * Deques under test. {@code SYNCHRONIZED_LINKED_LIST_IMPL} guards every
+     * operation with the deque's monitor.
+     */
+    public enum Type {
+        CONCURRENT_LINKED_DEQUE_IMPL,
+        SYNCHRONIZED_LINKED_LIST_IMPL,
+        CONCURRENT_LINKED_DEQUE
+    }
+
+    @Param
+    private Type type;
+
+    private Deque<Integer> deque;
+
+    private boolean locked;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (type) {
+            case CONCURRENT_LINKED_DEQUE_IMPL:
+                deque = new ConcurrentLinkedDequeImpl<>();
+                break;
+            case SYNCHRONIZED_LINKED_LIST_IMPL:
+                deque = new LinkedListImpl<>();
+                break;
+            default:
+                deque = new ConcurrentLinkedDeque<>();
+        }
+        locked = type == Type.SYNCHRONIZED_LINKED_LIST_IMPL;
+        for (int i = 0; i < 1024; i++) {
+            deque.offerLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer offerLastPollFirst() {
+        if (locked) {
+            synchronized (deque) {
+                deque.offerLast(42);
+                return deque.pollFirst();
+            }
+        }
+        deque.offerLast(42);
+        return deque.pollFirst();
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        if (locked) {
+            synchronized (deque) {
+                deque.push(42);
+                return deque.pop();
+            }
+        }
+        deque.push(42);
+        return deque.pop();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder()
+                    .include(ConcurrentDequeBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .forks(1)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("build/reports/jmh/deque-contention-" + threads + ".json")
+                    .build())
+                    .run();
+        }
+    }
+}
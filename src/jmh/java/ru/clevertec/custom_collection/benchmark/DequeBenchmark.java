@@ -0,0 +1,56 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures steady-state deque traffic: FIFO {@code offerLast/pollFirst}
+ * and LIFO {@code push/pop} over a prefilled deque.</p>
+ * <p>Run with the {@code gc} profiler, {@code gc.alloc.rate.norm} shows
+ * the bytes allocated per operation: 24 for a node of
+ * LINKED_LIST_IMPL, none for POOLED_LINKED_LIST_IMPL, which reuses the
+ * node it has just unlinked.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DequeBenchmark {
+
+    @Param({"16", "10000"})
+    private int size;
+
+    @Param
+    private DequeType dequeType;
+
+    @Param
+    private ElementType elementType;
+
+    private Deque<Object> deque;
+
+    private Object element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        deque = dequeType.create();
+        for (Object element : elementType.elements(size)) {
+            deque.offerLast(element);
+        }
+        element = elementType.element(size);
+    }
+
+    @Benchmark
+    public Object offerLastPollFirst() {
+        deque.offerLast(element);
+        return deque.pollFirst();
+    }
+
+    @Benchmark
+    public Object pushPop() {
+        deque.push(element);
+        return deque.pop();
+    }
+}
@@ -0,0 +1,59 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import ru.clevertec.custom_collection.my_list.CircularArrayDequeImpl;
+import ru.clevertec.custom_collection.my_list.LinkedListImpl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+
+/**
+ * <p>Deque implementations compared by the deque benchmarks.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+public enum DequeType {
+    LINKED_LIST_IMPL {
+        @Override
+        <T> Deque<T> create() {
+            return new LinkedListImpl<>();
+        }
+    },
+    POOLED_LINKED_LIST_IMPL {
+        @Override
+        <T> Deque<T> create() {
+            return new LinkedListImpl<>(POOL_CAPACITY);
+        }
+    },
+    CIRCULAR_ARRAY_DEQUE_IMPL {
+        @Override
+        <T> Deque<T> create() {
+            return new CircularArrayDequeImpl<>();
+        }
+    },
+    LINKED_LIST {
+        @Override
+        <T> Deque<T> create() {
+            return new LinkedList<>();
+        }
+    },
+    ARRAY_DEQUE {
+        @Override
+        <T> Deque<T> create() {
+            return new ArrayDeque<>();
+        }
+    };
+
+    /**
+     * Recycled nodes kept by POOLED_LINKED_LIST_IMPL, enough for the
+     * single node in flight in the deque benchmarks.
+     */
+    private static final int POOL_CAPACITY = 16;
+
+    /**
+     * Creates an empty deque of this type.
+     *
+     * @return new empty deque
+     */
+    abstract <T> Deque<T> create();
+}
@@ -0,0 +1,43 @@
+package ru.clevertec.custom_collection.benchmark;
+
+/**
+ * <p>Kinds of elements the benchmarks fill lists with.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+public enum ElementType {
+    INTEGER {
+        @Override
+        Object element(int i) {
+            return i;
+        }
+    },
+    STRING {
+        @Override
+        Object element(int i) {
+            return "element-" + i;
+        }
+    };
+
+    /**
+     * Returns the element with the specified ordinal number.
+     *
+     * @param i ordinal number of the element
+     * @return element of this type
+     */
+    abstract Object element(int i);
+
+    /**
+     * Returns an array of distinct elements of this type.
+     *
+     * @param size number of elements
+     * @return array of elements
+     */
+    Object[] elements(int size) {
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = element(i);
+        }
+        return elements;
+    }
+}
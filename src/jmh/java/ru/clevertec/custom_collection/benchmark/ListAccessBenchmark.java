@@ -0,0 +1,73 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures indexed {@code get} and {@code set} at random positions,
+ * and {@code get} over a window of consecutive positions.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ListAccessBenchmark {
+
+    private static final int INDEX_COUNT = 1024;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param
+    private ListType listType;
+
+    @Param
+    private ElementType elementType;
+
+    private List<Object> list;
+
+    private int[] indexes;
+
+    private Object[] elements;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = elementType.elements(size);
+        list = listType.filled(elements);
+        Random random = new Random(42);
+        indexes = new int[INDEX_COUNT];
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INDEX_COUNT)
+    public void get(Blackhole blackhole) {
+        for (int index : indexes) {
+            blackhole.consume(list.get(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INDEX_COUNT)
+    public void set(Blackhole blackhole) {
+        for (int index : indexes) {
+            blackhole.consume(list.set(index, elements[index]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INDEX_COUNT)
+    public void getSequential(Blackhole blackhole) {
+        int start = indexes[0] % Math.max(1, size - INDEX_COUNT);
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            blackhole.consume(list.get((start + i) % size));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures appending elements to an empty list one by one.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ListAppendBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param
+    private ListType listType;
+
+    @Param
+    private ElementType elementType;
+
+    private Object[] elements;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = elementType.elements(size);
+    }
+
+    @Benchmark
+    public List<Object> append() {
+        List<Object> list = listType.create();
+        for (Object element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+}
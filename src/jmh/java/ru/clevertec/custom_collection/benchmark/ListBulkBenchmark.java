@@ -0,0 +1,76 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures {@code addAll} of a collection to the end and to the middle
+ * of a list, and bulk removal of every other element with
+ * {@code removeIf} and {@code removeAll} of a list argument.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ListBulkBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param
+    private ListType listType;
+
+    @Param
+    private ElementType elementType;
+
+    private Object[] elements;
+
+    private Collection<Object> source;
+
+    private Collection<Object> everyOther;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = elementType.elements(size);
+        source = Arrays.asList(elements);
+        everyOther = new ArrayList<>();
+        for (int i = 0; i < size; i += 2) {
+            everyOther.add(elements[i]);
+        }
+    }
+
+    @Benchmark
+    public List<Object> addAll() {
+        List<Object> list = listType.create();
+        list.addAll(source);
+        return list;
+    }
+
+    @Benchmark
+    public List<Object> addAllMiddle() {
+        List<Object> list = listType.filled(elements);
+        list.addAll(size / 2, source);
+        return list;
+    }
+
+    @Benchmark
+    public List<Object> removeIfHalf() {
+        List<Object> list = listType.filled(elements);
+        int[] counter = {0};
+        list.removeIf(e -> (counter[0]++ & 1) == 0);
+        return list;
+    }
+
+    @Benchmark
+    public List<Object> removeAllHalf() {
+        List<Object> list = listType.filled(elements);
+        list.removeAll(everyOther);
+        return list;
+    }
+}
@@ -0,0 +1,44 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures inserting and then removing an element in the middle
+ * of a list, so the list keeps its size between invocations.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ListInsertRemoveBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param
+    private ListType listType;
+
+    @Param
+    private ElementType elementType;
+
+    private List<Object> list;
+
+    private Object element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = listType.filled(elementType.elements(size));
+        element = elementType.element(size);
+    }
+
+    @Benchmark
+    public Object insertRemoveMiddle() {
+        int middle = list.size() / 2;
+        list.add(middle, element);
+        return list.remove(middle);
+    }
+}
@@ -0,0 +1,41 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures a full pass over a list through its iterator.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ListIterationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param
+    private ListType listType;
+
+    @Param
+    private ElementType elementType;
+
+    private List<Object> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = listType.filled(elementType.elements(size));
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Object element : list) {
+            blackhole.consume(element);
+        }
+    }
+}
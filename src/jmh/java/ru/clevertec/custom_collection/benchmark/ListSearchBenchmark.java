@@ -0,0 +1,50 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures {@code indexOf} for the last element and for an absent one,
+ * both of which scan the whole list.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ListSearchBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param
+    private ListType listType;
+
+    @Param
+    private ElementType elementType;
+
+    private List<Object> list;
+
+    private Object last;
+
+    private Object absent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = listType.filled(elementType.elements(size));
+        last = elementType.element(size - 1);
+        absent = elementType.element(size);
+    }
+
+    @Benchmark
+    public int indexOfLast() {
+        return list.indexOf(last);
+    }
+
+    @Benchmark
+    public int indexOfAbsent() {
+        return list.indexOf(absent);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures sorting a shuffled list with natural ordering.</p>
+ * <p>Only list types supporting {@code sort} are listed in the
+ * {@code listType} parameter.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ListSortBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"ARRAY_LIST_IMPL", "ARRAY_LIST", "LINKED_LIST_IMPL", "LINKED_LIST"})
+    private ListType listType;
+
+    @Param
+    private ElementType elementType;
+
+    private Object[] shuffled;
+
+    private List<Object> list;
+
+    @Setup(Level.Trial)
+    public void setUpElements() {
+        List<Object> elements = listType.filled(elementType.elements(size));
+        Collections.shuffle(elements, new Random(42));
+        shuffled = elements.toArray();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list = listType.filled(shuffled);
+    }
+
+    @Benchmark
+    public List<Object> sort() {
+        list.sort(null);
+        return list;
+    }
+}
@@ -0,0 +1,98 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import ru.clevertec.custom_collection.my_list.ArrayListImpl;
+import ru.clevertec.custom_collection.my_list.BTreeList;
+import ru.clevertec.custom_collection.my_list.CircularArrayDequeImpl;
+import ru.clevertec.custom_collection.my_list.GapArrayListImpl;
+import ru.clevertec.custom_collection.my_list.HashIndexedList;
+import ru.clevertec.custom_collection.my_list.IndexableSkipList;
+import ru.clevertec.custom_collection.my_list.LinkedListImpl;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * <p>List implementations compared by the benchmarks.</p>
+ * <p>Custom lists are measured against their {@code java.util}
+ * counterparts.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+public enum ListType {
+    ARRAY_LIST_IMPL {
+        @Override
+        <T> List<T> create() {
+            return new ArrayListImpl<>();
+        }
+    },
+    ARRAY_LIST {
+        @Override
+        <T> List<T> create() {
+            return new ArrayList<>();
+        }
+    },
+    B_TREE_LIST {
+        @Override
+        <T> List<T> create() {
+            return new BTreeList<>();
+        }
+    },
+    GAP_ARRAY_LIST_IMPL {
+        @Override
+        <T> List<T> create() {
+            return new GapArrayListImpl<>();
+        }
+    },
+    HASH_INDEXED_LIST {
+        @Override
+        <T> List<T> create() {
+            return new HashIndexedList<>();
+        }
+    },
+    INDEXABLE_SKIP_LIST {
+        @Override
+        <T> List<T> create() {
+            return new IndexableSkipList<>();
+        }
+    },
+    LINKED_LIST_IMPL {
+        @Override
+        <T> List<T> create() {
+            return new LinkedListImpl<>();
+        }
+    },
+    CIRCULAR_ARRAY_DEQUE_IMPL {
+        @Override
+        <T> List<T> create() {
+            return new CircularArrayDequeImpl<>();
+        }
+    },
+    LINKED_LIST {
+        @Override
+        <T> List<T> create() {
+            return new LinkedList<>();
+        }
+    };
+
+    /**
+     * Creates an empty list of this type.
+     *
+     * @return new empty list
+     */
+    abstract <T> List<T> create();
+
+    /**
+     * Creates a list of this type filled with the specified elements.
+     *
+     * @param elements elements to be added
+     * @return new list containing the elements in order
+     */
+    <T> List<T> filled(T[] elements) {
+        List<T> list = create();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,88 @@
+package ru.clevertec.custom_collection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.clevertec.custom_collection.my_list.ArrayListImpl;
+import ru.clevertec.custom_collection.my_list.primitive.IntArrayList;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Finds the size from which parallel sorting pays off.</p>
+ * <p>{@code objects} sorts an {@link ArrayListImpl} of shuffled integers
+ * with {@code parallelSort} in a pool of {@code parallelism} threads;
+ * a pool of one thread sorts sequentially and is the baseline.
+ * {@code ints} sorts the same values as a plain array sequentially and
+ * {@code parallelInts} sorts an {@link IntArrayList} of them in parallel
+ * in the common pool, so both ignore {@code parallelism}. The size where
+ * the parallel score drops below the sequential one is the crossover.</p>
+ * @author  Olga Mailychko
+ * @since   1.8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ParallelSortBenchmark {
+
+    @Param({"4096", "16384", "65536", "262144", "1048576"})
+    private int size;
+
+    @Param({"1", "4", "16"})
+    private int parallelism;
+
+    private ForkJoinPool pool;
+
+    private int[] shuffled;
+
+    private ArrayListImpl<Integer> objects;
+
+    private IntArrayList ints;
+
+    private int[] values;
+
+    @Setup(Level.Trial)
+    public void setUpElements() {
+        pool = new ForkJoinPool(parallelism);
+        Random random = new Random(42);
+        shuffled = new int[size];
+        for (int i = 0; i < size; i++) {
+            shuffled[i] = random.nextInt();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpLists() {
+        objects = new ArrayListImpl<>(size);
+        ints = new IntArrayList(size);
+        for (int value : shuffled) {
+            objects.add(value);
+            ints.addInt(value);
+        }
+        values = shuffled.clone();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ArrayListImpl<Integer> objects() {
+        objects.parallelSort(null, pool);
+        return objects;
+    }
+
+    @Benchmark
+    public int[] ints() {
+        Arrays.sort(values);
+        return values;
+    }
+
+    @Benchmark
+    public IntArrayList parallelInts() {
+        ints.parallelSort();
+        return ints;
+    }
+}
@@ -1,7 +1,15 @@
 package ru.clevertec.custom_collection.my_list;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * <p>Created as Task 3 for Clevertec.</p>
@@ -17,36 +25,56 @@ import java.util.*;
  */
 
 public class ArrayListImpl<T> extends AbstractList<T>
-        implements List<T>, Serializable, Cloneable
+        implements List<T>, RandomAccess, Serializable, Cloneable
 {
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
     /**
      * Default initial capacity.
      */
     private static final int DEFAULT_INITIAL_CAPACITY = 10;
+
+    /**
+     * Size above which the argument of a bulk removal that is not a
+     * {@link Set} is copied into a {@link HashSet} for lookups.
+     */
+    private static final int HASH_LOOKUP_THRESHOLD = 16;
+
     /**
-     * The size collection is appended by default.
+     * Size from which {@link #sort} runs in parallel, see ParallelSortBenchmark.
      */
-    private static final int DEFAULT_APPEND_SIZE = 2;
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
 
     /**
      * The array buffer into which the elements of the ArrayList are stored.
      * The capacity of the ArrayList is the length of this array buffer. Any
      * empty ArrayList will be expanded to DEFAULT_CAPACITY when
-     * the first element is added.
+     * the first element is added. Only the first size slots are serialized.
      */
-    private Object[] data;
+    private transient Object[] data;
 
     /**
      * The size of the ArrayList (the number of elements it contains).
      */
     private int size;
 
+    /**
+     * The policy deciding the new capacity when the list overflows.
+     */
+    private final GrowthStrategy growthStrategy;
+
+    /**
+     * The policy deciding whether the list releases capacity after
+     * removals, or null if it keeps its capacity as with
+     * {@link ShrinkPolicy#never()}, so that the default policy adds
+     * nothing to the serialized form.
+     */
+    private ShrinkPolicy shrinkPolicy;
+
     /**
      * Constructs an empty list with the DEFAULT_INITIAL_CAPACITY
      */
     public ArrayListImpl(){
-        data = new Object[DEFAULT_INITIAL_CAPACITY];
+        this(DEFAULT_INITIAL_CAPACITY);
     }
 
     /**
@@ -57,6 +85,32 @@ public class ArrayListImpl<T> extends AbstractList<T>
      *         is negative
      */
     public ArrayListImpl(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.defaultStrategy());
+    }
+
+    /**
+     * Constructs an empty list with the DEFAULT_INITIAL_CAPACITY
+     * growing according to the specified strategy.
+     *
+     * @param  growthStrategy  the policy used when the list overflows
+     * @throws NullPointerException if the specified strategy is null
+     */
+    public ArrayListImpl(GrowthStrategy growthStrategy) {
+        this(DEFAULT_INITIAL_CAPACITY, growthStrategy);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity
+     * growing according to the specified strategy.
+     *
+     * @param  initialCapacity  the initial capacity of the list
+     * @param  growthStrategy  the policy used when the list overflows
+     * @throws IllegalArgumentException if the specified initial capacity
+     *         is negative
+     * @throws NullPointerException if the specified strategy is null
+     */
+    public ArrayListImpl(int initialCapacity, GrowthStrategy growthStrategy) {
+        if (growthStrategy == null) throw new NullPointerException();
         if (initialCapacity > 0) {
             data = new Object[initialCapacity];
         } else if (initialCapacity == 0) {
@@ -65,6 +119,51 @@ public class ArrayListImpl<T> extends AbstractList<T>
             throw new IllegalArgumentException("Illegal Capacity: "+
                     initialCapacity);
         }
+        this.growthStrategy = growthStrategy;
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity
+     * growing and shrinking according to the specified policies.
+     *
+     * @param  initialCapacity  the initial capacity of the list
+     * @param  growthStrategy  the policy used when the list overflows
+     * @param  shrinkPolicy  the policy used when elements are removed
+     * @throws IllegalArgumentException if the specified initial capacity
+     *         is negative
+     * @throws NullPointerException if a specified policy is null
+     */
+    public ArrayListImpl(int initialCapacity, GrowthStrategy growthStrategy, ShrinkPolicy shrinkPolicy) {
+        this(initialCapacity, growthStrategy);
+        if (shrinkPolicy == null) throw new NullPointerException();
+        this.shrinkPolicy = shrinkPolicy;
+    }
+
+    /**
+     * Constructs a list using the specified array as its buffer without
+     * copying it. The list is full, so its size is the array's length.
+     *
+     * @param elements the array buffer to be adopted
+     */
+    ArrayListImpl(Object[] elements) {
+        this(elements, GrowthStrategy.defaultStrategy(), null);
+    }
+
+    /**
+     * Constructs a list using the specified array as its buffer without
+     * copying it, growing and shrinking according to the specified
+     * policies. The list is full, so its size is the array's length.
+     *
+     * @param elements the array buffer to be adopted
+     * @param growthStrategy the policy used when the list overflows
+     * @param shrinkPolicy the policy used when elements are removed, or
+     *                     null if the list keeps its capacity
+     */
+    ArrayListImpl(Object[] elements, GrowthStrategy growthStrategy, ShrinkPolicy shrinkPolicy) {
+        this.data = elements;
+        this.size = elements.length;
+        this.growthStrategy = growthStrategy;
+        this.shrinkPolicy = shrinkPolicy;
     }
 
     /**
@@ -108,6 +207,19 @@ public class ArrayListImpl<T> extends AbstractList<T>
         return new Itr();
     }
 
+    /**
+     * Returns a fail-fast list iterator over the elements in this list,
+     * starting at the specified position.
+     *
+     * @param index index of the first element to be returned by next
+     * @return a list iterator starting at the specified position
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (!isValidPositionIndex(index)) throw new IllegalArgumentException("invalid index");
+        return new ListItr(index);
+    }
+
     /**
      * Returns an array containing all of the elements in this list
      * in proper sequence (from first to last element).
@@ -128,6 +240,7 @@ public class ArrayListImpl<T> extends AbstractList<T>
      */
     @Override
     public boolean add(T t) {
+        modCount++;
         ensureListSize();
         data[size++] = t;
         return true;
@@ -152,20 +265,105 @@ public class ArrayListImpl<T> extends AbstractList<T>
     }
 
     /**
-     * Increases the capacity to DEFAULT_APPEND_SIZE
+     * Increases the capacity by the amount the growth strategy decides.
      */
     private void grow(){
-        grow(DEFAULT_APPEND_SIZE);
+        grow(size + 1);
     }
 
     /**
      * Increases the capacity to ensure that it can hold at least the
-     * number of elements specified by the appendSixe argument.
+     * number of elements specified by the minCapacity argument.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity){
+        if (minCapacity < 0 || minCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int newCapacity = growthStrategy.newCapacity(data.length, minCapacity);
+        if (ListMetrics.ENABLED) {
+            ListMetrics.recordReallocation(this, data.length, newCapacity);
+        }
+        data = Arrays.copyOf(data, newCapacity);
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure
+     * that it can hold at least the number of elements specified by
+     * the minimum capacity argument. Bulk loaders can use it to presize
+     * the list and avoid intermediate reallocations.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            if (ListMetrics.ENABLED) {
+                ListMetrics.recordReallocation(this, data.length, minCapacity);
+            }
+            data = Arrays.copyOf(data, minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to be the list's current size,
+     * releasing the unused slots of the array buffer.
+     */
+    public void trimToSize() {
+        if (size < data.length) {
+            data = Arrays.copyOf(data, size);
+        }
+    }
+
+    /**
+     * Reallocates the array buffer to the capacity the shrink policy
+     * decides for the current size, if it is smaller.
+     */
+    private void shrinkIfSparse() {
+        if (shrinkPolicy == null) {
+            return;
+        }
+        int newCapacity = shrinkPolicy.newCapacity(data.length, size);
+        if (newCapacity < data.length) {
+            data = Arrays.copyOf(data, Math.max(newCapacity, size));
+        }
+    }
+
+    /**
+     * Returns the array buffer of this list without copying it.
+     *
+     * @return the array buffer, which may be longer than the list
+     */
+    Object[] elementData() {
+        return data;
+    }
+
+    /**
+     * Returns the current capacity of this list.
+     *
+     * @return the length of the array buffer
+     */
+    int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Returns the policy deciding the new capacity when this list overflows.
+     *
+     * @return the growth strategy of this list
+     */
+    GrowthStrategy growthStrategy() {
+        return growthStrategy;
+    }
+
+    /**
+     * Returns the policy deciding whether this list releases capacity
+     * after removals.
      *
-     * @param appendSize the desired capacity
+     * @return the shrink policy of this list, or null if it keeps its capacity
      */
-    private void grow(int appendSize){
-        data = Arrays.copyOf(data, size + appendSize);
+    ShrinkPolicy shrinkPolicy() {
+        return shrinkPolicy;
     }
 
     /**
@@ -191,11 +389,16 @@ public class ArrayListImpl<T> extends AbstractList<T>
      * @param index element's index to be removed from this list
      */
     private void leftShiftAndTrim(int index){
+        modCount++;
         int newSize =  size - 1;
         if (newSize > index){
+            if (ListMetrics.ENABLED) {
+                ListMetrics.recordCopy(newSize - index);
+            }
             System.arraycopy(data, index + 1, data, index, newSize - index);
         }
         data[size = newSize] = null;
+        shrinkIfSparse();
     }
 
     /**
@@ -225,7 +428,7 @@ public class ArrayListImpl<T> extends AbstractList<T>
         }
         int newSize = size + c.size();
         if (data.length < newSize) {
-            grow(newSize - data.length);
+            grow(newSize);
         }
         return newSize;
     }
@@ -241,6 +444,7 @@ public class ArrayListImpl<T> extends AbstractList<T>
      */
     @Override
     public boolean addAll(Collection<? extends T> c) {
+        modCount++;
         int newSize = modifySizeToAdd(c);
         if (newSize == size) return false;
         System.arraycopy(c.toArray(), 0,data,
@@ -261,9 +465,13 @@ public class ArrayListImpl<T> extends AbstractList<T>
      */
     @Override
     public boolean addAll(int index, Collection<? extends T> c) {
-        if (!isValidIndex(index)) throw new IllegalArgumentException("invalid index");
+        if (!isValidPositionIndex(index)) throw new IllegalArgumentException("invalid index");
+        modCount++;
         int newSize = modifySizeToAdd(c);
         if (newSize == size) return false;
+        if (ListMetrics.ENABLED && index < size) {
+            ListMetrics.recordCopy(2 * (size - index));
+        }
         Object[] array = new Object[size - index];
         System.arraycopy(data, index, array, 0, size - index);
         System.arraycopy(c.toArray(), 0, data, index, c.size());
@@ -272,30 +480,188 @@ public class ArrayListImpl<T> extends AbstractList<T>
         return true;
     }
 
-//    @Override
-//    public boolean removeAll(Collection<?> c) {
-//        return false;
-//    }
-//
-//    @Override
-//    public boolean removeIf(Predicate<? super T> filter) {
-//        return false;
-//    }
-//
-//    @Override
-//    public boolean retainAll(Collection<?> c) {
-//        return false;
-//    }
-//
-//    @Override
-//    public void replaceAll(UnaryOperator<T> operator) {
-//
-//    }
+    /**
+     * Removes from this list all of its elements that are contained in the
+     * specified collection, compacting the remaining elements in one pass.
+     *
+     * @param c collection containing elements to be removed from this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Collection<?> lookup = lookupOf(c);
+        return batchRemove(lookup::contains, 0, size) > 0;
+    }
 
+    /**
+     * Removes all of the elements of this list that satisfy the given
+     * predicate, compacting the remaining elements in one pass.
+     *
+     * @param filter a predicate which returns {@code true} for elements
+     *               to be removed
+     * @return {@code true} if any elements were removed
+     * @throws NullPointerException if the specified filter is null
+     */
     @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        return batchRemove(filter, 0, size) > 0;
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the
+     * specified collection, compacting them in one pass.
+     *
+     * @param c collection containing elements to be retained in this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Collection<?> lookup = lookupOf(c);
+        return batchRemove(e -> !lookup.contains(e), 0, size) > 0;
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the
+     * operator to that element.
+     *
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException if the specified operator is null
+     */
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        replaceAllInRange(operator, 0, size);
+    }
+
+    /**
+     * Replaces each element of the range with the result of applying the
+     * operator to that element.
+     *
+     * @param operator the operator to apply to each element
+     * @param from index of the first element, inclusive
+     * @param to index of the last element, exclusive
+     */
+    @SuppressWarnings("unchecked")
+    private void replaceAllInRange(UnaryOperator<T> operator, int from, int to) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        for (int i = from; i < to && modCount == expectedModCount; i++) {
+            data[i] = operator.apply((T) data[i]);
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        modCount++;
+    }
+
+    /**
+     * Returns a collection answering {@code contains} for the elements of
+     * the specified one. Large collections which are not sets are copied
+     * into a {@link HashSet}, so that a bulk removal costs O(n + m)
+     * instead of O(n * m).
+     *
+     * @param c collection to be looked up
+     * @return the collection itself or its hashed copy
+     */
+    private static Collection<?> lookupOf(Collection<?> c) {
+        Objects.requireNonNull(c);
+        if (c instanceof Set || c.size() <= HASH_LOOKUP_THRESHOLD) {
+            return c;
+        }
+        return new HashSet<>(c);
+    }
+
+    /**
+     * Removes the elements of the range matching the filter by moving each
+     * kept element to the next free slot, then moves the elements after
+     * the range up and clears the vacated tail for GC. If the filter
+     * throws, the unprocessed elements are kept in place.
+     *
+     * @param filter a predicate which returns {@code true} for elements
+     *               to be removed
+     * @param from index of the first element, inclusive
+     * @param to index of the last element, exclusive
+     * @return the number of removed elements
+     */
     @SuppressWarnings("unchecked")
+    private int batchRemove(Predicate<? super T> filter, int from, int to) {
+        int expectedModCount = modCount;
+        int read = from;
+        int write = from;
+        int removed;
+        try {
+            for (; read < to; read++) {
+                T element = (T) data[read];
+                if (!filter.test(element)) {
+                    data[write++] = element;
+                }
+            }
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        } finally {
+            removed = read - write;
+            if (removed > 0) {
+                System.arraycopy(data, read, data, write, size - read);
+                Arrays.fill(data, size - removed, size, null);
+                size -= removed;
+                modCount++;
+            }
+        }
+        if (removed > 0) {
+            shrinkIfSparse();
+        }
+        return removed;
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified
+     * comparator, or the natural order if it is {@code null}. Lists of at
+     * least PARALLEL_SORT_THRESHOLD elements are sorted in parallel in the
+     * common pool when it has more than one thread.
+     *
+     * @param c the comparator used to compare list elements
+     */
+    @Override
     public void sort(Comparator<? super T> c) {
-        Arrays.sort((T[]) data, 0, size, c);
+        sortRange(c, 0, size);
+    }
+
+    /**
+     * Sorts the range of the array buffer, in parallel in the common pool
+     * if it holds at least PARALLEL_SORT_THRESHOLD elements and the pool
+     * has more than one thread.
+     *
+     * @param c the comparator used to compare list elements
+     * @param from index of the first element, inclusive
+     * @param to index of the last element, exclusive
+     */
+    @SuppressWarnings("unchecked")
+    private void sortRange(Comparator<? super T> c, int from, int to) {
+        int expectedModCount = modCount;
+        if (to - from >= PARALLEL_SORT_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ParallelMergeSort.sort((T[]) data, from, to, c, ForkJoinPool.commonPool());
+        } else {
+            Arrays.sort((T[]) data, from, to, c);
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        modCount++;
+    }
+
+    /**
+     * Sorts this list with a stable fork/join merge sort running in the
+     * specified pool. A pool of parallelism 1 sorts sequentially.
+     *
+     * @param c the comparator used to compare list elements, or
+     *          {@code null} for the natural order
+     * @param pool the pool running the sort
+     * @throws NullPointerException if the specified pool is null
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super T> c, ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+        int expectedModCount = modCount;
+        ParallelMergeSort.sort((T[]) data, 0, size, c, pool);
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        modCount++;
     }
 
     /**
@@ -304,8 +670,10 @@ public class ArrayListImpl<T> extends AbstractList<T>
      */
     @Override
     public void clear() {
+        modCount++;
         for (int to = size, i = size = 0; i < to; i++)
             data[i] = null;
+        shrinkIfSparse();
     }
 
     /**
@@ -346,8 +714,12 @@ public class ArrayListImpl<T> extends AbstractList<T>
      */
     @Override
     public void add(int index, T element) {
-        if (!isValidIndex(index)) throw new IllegalArgumentException("invalid index");
+        if (!isValidPositionIndex(index)) throw new IllegalArgumentException("invalid index");
+        modCount++;
         ensureListSize();
+        if (ListMetrics.ENABLED && index < size) {
+            ListMetrics.recordCopy(size - index);
+        }
         System.arraycopy(data, index, data, index + 1, size - index);
         data[index] = element;
         ++size;
@@ -379,6 +751,17 @@ public class ArrayListImpl<T> extends AbstractList<T>
         return index < size && index >= 0;
     }
 
+    /**
+     * Checks if passed index is a valid position to insert at,
+     * which includes the end of the list.
+     *
+     * @param index the index to be checked
+     * @return {@code true} if index is valid
+     */
+    private boolean isValidPositionIndex(int index){
+        return index <= size && index >= 0;
+    }
+
     /**
      * Returns the index of the first occurrence of the specified element
      * in this list, or -1 if this list does not contain the element.
@@ -388,6 +771,15 @@ public class ArrayListImpl<T> extends AbstractList<T>
         return indexOfInRange(o, 0, size);
     }
 
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        return lastIndexOfInRange(o, 0, size);
+    }
+
     /**
      * Returns the the first occurrence of the specified element from start to end
      * in this list, or -1 if this list does not contain the element.
@@ -414,6 +806,56 @@ public class ArrayListImpl<T> extends AbstractList<T>
         return -1;
     }
 
+    /**
+     * Returns the last occurrence of the specified element from start to end
+     * in this list, or -1 if this list does not contain the element.
+     *
+     * @param o element to search for
+     * @param start position at which the search stops, inclusive
+     * @param end position from which the search runs backwards, exclusive
+     * @return index of found element
+     */
+    private int lastIndexOfInRange(Object o, int start, int end) {
+        if (o == null) {
+            for (int i = end - 1; i >= start; i--) {
+                if (data[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = end - 1; i >= start; i--) {
+                if (o.equals(data[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes from this list all of the elements whose index is between
+     * fromIndex, inclusive, and toIndex, exclusive, with a single shift
+     * of the following elements.
+     *
+     * @param fromIndex index of first element to be removed
+     * @param toIndex index after last element to be removed
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IllegalArgumentException("invalid index");
+        }
+        modCount++;
+        int newSize = size - (toIndex - fromIndex);
+        if (ListMetrics.ENABLED && toIndex < size) {
+            ListMetrics.recordCopy(size - toIndex);
+        }
+        System.arraycopy(data, toIndex, data, fromIndex, size - toIndex);
+        Arrays.fill(data, newSize, size, null);
+        size = newSize;
+        shrinkIfSparse();
+    }
+
     /**
      * Adds passed array of objects to list.
      *
@@ -425,45 +867,158 @@ public class ArrayListImpl<T> extends AbstractList<T>
         return list;
     }
 
-//    @Override
-//    public int lastIndexOf(Object o) {
-//        return 0;
-//    }
-//
-//    @Override
-//    public ListIterator<T> listIterator() {
-//        return null;
-//    }
-//
-//    @Override
-//    public ListIterator<T> listIterator(int index) {
-//        return null;
-//    }
-//
-//    @Override
-//    public List<T> subList(int fromIndex, int toIndex) {
-//        return null;
-//    }
-//
-//    @Override
-//    public Spliterator<T> spliterator() {
-//        return null;
-//    }
-//
-//    @Override
-//    public Stream<T> stream() {
-//        return null;
-//    }
-//
-//    @Override
-//    public Stream<T> parallelStream() {
-//        return null;
-//    }
+    /**
+     * Returns a view of the portion of this list between the specified
+     * fromIndex, inclusive, and toIndex, exclusive. The view is an offset
+     * and a length over the array buffer of this list, so creating it
+     * copies nothing, and its bulk operations such as {@code clear},
+     * {@code sort}, {@code replaceAll}, {@code removeIf} and
+     * {@code indexOf} work on the buffer directly. Views of views are
+     * views of this list too. A structural change of this list not made
+     * through the view makes the view fail with
+     * {@link ConcurrentModificationException}.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IllegalArgumentException if an endpoint index is out of range
+     *         or fromIndex is greater than toIndex
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        checkSubListRange(fromIndex, toIndex, size);
+        return new SubList(null, fromIndex, toIndex - fromIndex);
+    }
+
+    private static void checkSubListRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IllegalArgumentException("invalid index");
+        }
+    }
+
+    /**
+     * Creates a late-binding and fail-fast {@link Spliterator} over the
+     * elements in this list. It splits by halving the index range, so
+     * parallel streams over the list are balanced.
+     *
+     * @return a {@code Spliterator} over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexSpliterator(0, -1, 0);
+    }
+
+    /**
+     * Saves the state of this list to a stream: the size and the growth
+     * and shrink policies followed by the elements in proper sequence. Unused
+     * capacity is not written.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        int expectedModCount = modCount;
+        s.defaultWriteObject();
+        for (int i = 0; i < size; i++) {
+            s.writeObject(data[i]);
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Reconstitutes this list from a stream into a buffer of exactly
+     * the serialized size.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if the class of an element is not found
+     */
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        if (size < 0) {
+            throw new InvalidObjectException("Illegal size: " + size);
+        }
+        data = new Object[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = s.readObject();
+        }
+    }
+
+    /**
+     * Spliterator over an index range of the array buffer. The fence is
+     * bound to the list's size on first use.
+     */
+    private class IndexSpliterator implements Spliterator<T> {
+
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        IndexSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
 
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            return lo >= mid ? null : new IndexSpliterator(lo, index = mid, expectedModCount);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) throw new NullPointerException();
+            int hi = getFence();
+            if (index < hi) {
+                T element = (T) data[index++];
+                action.accept(element);
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) throw new NullPointerException();
+            int hi = getFence();
+            Object[] array = data;
+            for (int i = index; i < hi; i++) {
+                action.accept((T) array[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 
     private class Itr implements Iterator<T> {
 
         int cursor = 0;
+        int lastRet = -1;
+        int expectedModCount = modCount;
 
         @Override
         public boolean hasNext() {
@@ -473,12 +1028,351 @@ public class ArrayListImpl<T> extends AbstractList<T>
         @Override
         @SuppressWarnings("unchecked")
         public T next() {
+            checkForComodification();
             if (hasNext()) {
+                lastRet = cursor;
                 return (T)data[cursor++];
             } else {
                 throw new NoSuchElementException();
             }
         }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) throw new IllegalStateException();
+            checkForComodification();
+            leftShiftAndTrim(lastRet);
+            cursor = lastRet;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+
+    private class ListItr extends Itr implements ListIterator<T> {
+
+        ListItr(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor != 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkForComodification();
+            if (hasPrevious()) {
+                lastRet = --cursor;
+                return (T)data[cursor];
+            } else {
+                throw new NoSuchElementException();
+            }
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void set(T t) {
+            if (lastRet < 0) throw new IllegalStateException();
+            checkForComodification();
+            data[lastRet] = t;
+        }
+
+        @Override
+        public void add(T t) {
+            checkForComodification();
+            ArrayListImpl.this.add(cursor++, t);
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * View of a range of the array buffer. Its size and modCount are
+     * updated together with those of all enclosing views on every change
+     * made through it.
+     */
+    private class SubList extends AbstractList<T> implements RandomAccess {
+
+        private final SubList parent;
+
+        /**
+         * Index of the first element of the view in the array buffer.
+         */
+        private final int offset;
+        private int size;
+
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.modCount = ArrayListImpl.this.modCount;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            checkIndex(index);
+            checkForComodification();
+            return (T) data[offset + index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T set(int index, T element) {
+            checkIndex(index);
+            checkForComodification();
+            T old = (T) data[offset + index];
+            data[offset + index] = element;
+            return old;
+        }
+
+        @Override
+        public void add(int index, T element) {
+            checkPositionIndex(index);
+            checkForComodification();
+            ArrayListImpl.this.add(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public T remove(int index) {
+            checkIndex(index);
+            checkForComodification();
+            T old = ArrayListImpl.this.remove(offset + index);
+            updateSizeAndModCount(-1);
+            return old;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends T> c) {
+            return addAll(size, c);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends T> c) {
+            checkPositionIndex(index);
+            int count = c.size();
+            if (count == 0) {
+                return false;
+            }
+            checkForComodification();
+            ArrayListImpl.this.addAll(offset + index, c);
+            updateSizeAndModCount(count);
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            ArrayListImpl.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        @Override
+        public void clear() {
+            removeRange(0, size);
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super T> filter) {
+            Objects.requireNonNull(filter);
+            checkForComodification();
+            int removed = batchRemove(filter, offset, offset + size);
+            if (removed > 0) {
+                updateSizeAndModCount(-removed);
+            }
+            return removed > 0;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Collection<?> lookup = lookupOf(c);
+            return removeIf(lookup::contains);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Collection<?> lookup = lookupOf(c);
+            return removeIf(e -> !lookup.contains(e));
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<T> operator) {
+            checkForComodification();
+            replaceAllInRange(operator, offset, offset + size);
+            updateSizeAndModCount(0);
+        }
+
+        @Override
+        public void sort(Comparator<? super T> c) {
+            checkForComodification();
+            sortRange(c, offset, offset + size);
+            updateSizeAndModCount(0);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            checkForComodification();
+            int index = indexOfInRange(o, offset, offset + size);
+            return index >= 0 ? index - offset : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            checkForComodification();
+            int index = lastIndexOfInRange(o, offset, offset + size);
+            return index >= 0 ? index - offset : -1;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(data, offset, offset + size);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<T> listIterator(int index) {
+            checkPositionIndex(index);
+            checkForComodification();
+            return new SubListItr(index);
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            checkSubListRange(fromIndex, toIndex, size);
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        private void updateSizeAndModCount(int sizeChange) {
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += sizeChange;
+                view.modCount = ArrayListImpl.this.modCount;
+            }
+        }
+
+        private void checkIndex(int index) {
+            if (index >= size || index < 0) throw new IllegalArgumentException("invalid index");
+        }
+
+        private void checkPositionIndex(int index) {
+            if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        }
+
+        private void checkForComodification() {
+            if (ArrayListImpl.this.modCount != modCount) throw new ConcurrentModificationException();
+        }
+
+        /**
+         * List iterator over the range, reading the array buffer directly.
+         */
+        private class SubListItr implements ListIterator<T> {
+
+            private int cursor;
+            private int lastRet = -1;
+            private int expectedModCount = ArrayListImpl.this.modCount;
+
+            SubListItr(int index) {
+                cursor = index;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return cursor != size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                checkItrComodification();
+                if (cursor >= size) throw new NoSuchElementException();
+                lastRet = cursor;
+                return (T) data[offset + cursor++];
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return cursor != 0;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T previous() {
+                checkItrComodification();
+                if (cursor == 0) throw new NoSuchElementException();
+                lastRet = --cursor;
+                return (T) data[offset + cursor];
+            }
+
+            @Override
+            public int nextIndex() {
+                return cursor;
+            }
+
+            @Override
+            public int previousIndex() {
+                return cursor - 1;
+            }
+
+            @Override
+            public void remove() {
+                if (lastRet < 0) throw new IllegalStateException();
+                checkItrComodification();
+                SubList.this.remove(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = ArrayListImpl.this.modCount;
+            }
+
+            @Override
+            public void set(T t) {
+                if (lastRet < 0) throw new IllegalStateException();
+                checkItrComodification();
+                data[offset + lastRet] = t;
+            }
+
+            @Override
+            public void add(T t) {
+                checkItrComodification();
+                SubList.this.add(cursor++, t);
+                lastRet = -1;
+                expectedModCount = ArrayListImpl.this.modCount;
+            }
+
+            private void checkItrComodification() {
+                if (ArrayListImpl.this.modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
     }
 }
 
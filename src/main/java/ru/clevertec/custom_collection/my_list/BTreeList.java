@@ -0,0 +1,988 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * <p>Balanced tree implementation of the {@link List} interface, also
+ * known as a rope or an order-statistic B+tree.</p>
+ * <p>Elements are kept in leaves holding up to NODE_CAPACITY elements
+ * each, and the leaves are linked into a chain in list order. Every
+ * branch node keeps the number of elements below each of its children,
+ * so a lookup by index descends the tree summing these sizes. All leaves
+ * are at the same depth and every node except the root is at least half
+ * full, so {@link #get}, {@link #set}, {@link #add(int, Object)} and
+ * {@link #remove(int)} cost O(log n), and iterators walk the leaf chain
+ * at the speed of an array.</p>
+ * <p>{@link #split} and {@link #concat} cut a list in two and join two
+ * lists in O(log n) without copying elements. {@link #addAll(int, Collection)}
+ * and clearing a {@link #subList} use them, so they cost O(log n) plus
+ * the number of inserted elements.</p>
+ * @param <T> the type of elements in this list
+ * @author  Olga Mailychko
+ * @see     UnrolledLinkedListImpl
+ * @since   1.8
+ */
+public class BTreeList<T> extends AbstractList<T>
+        implements List<T>, Cloneable, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    /**
+     * Maximum number of elements in a leaf and of children in a branch.
+     */
+    private static final int NODE_CAPACITY = 64;
+
+    /**
+     * Minimum number of entries in a node other than the root.
+     */
+    private static final int MIN_COUNT = NODE_CAPACITY / 2;
+
+    /**
+     * Current size of the list.
+     */
+    private transient int size;
+
+    /**
+     * Root of the tree, {@code null} if the list is empty.
+     */
+    private transient Node root;
+
+    /**
+     * Number of branch levels above the leaves.
+     */
+    private transient int height;
+
+    /**
+     * Constructs an empty list.
+     */
+    public BTreeList() {
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified collection,
+     * in the order they are returned by the collection's iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list
+     * @throws NullPointerException if the specified collection is null
+     */
+    public BTreeList(Collection<? extends T> c) {
+        addAll(c);
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        isValidIndex(index);
+        Node node = root;
+        for (int h = height; h > 0; h--) {
+            Branch branch = (Branch) node;
+            int i = 0;
+            while (index >= branch.sizes[i]) {
+                index -= branch.sizes[i++];
+            }
+            node = branch.children[i];
+        }
+        return (T) ((Leaf) node).elements[index];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        isValidIndex(index);
+        Node node = root;
+        for (int h = height; h > 0; h--) {
+            Branch branch = (Branch) node;
+            int i = 0;
+            while (index >= branch.sizes[i]) {
+                index -= branch.sizes[i++];
+            }
+            node = branch.children[i];
+        }
+        Leaf leaf = (Leaf) node;
+        T old = (T) leaf.elements[index];
+        leaf.elements[index] = element;
+        return old;
+    }
+
+    /**
+     * Appends the specified element to the end of this list. Appended
+     * elements fill the last leaf completely before a new one is started.
+     *
+     * @param t element to be appended to this list
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(T t) {
+        insert(size, t);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Shifts the subsequent elements to the right.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        insert(index, element);
+    }
+
+    /**
+     * Inserts all of the elements in the specified collection into this
+     * list at the specified position. The elements are built into a tree
+     * of their own, which is then joined in between the two parts of this
+     * list.
+     *
+     * @param index index at which to insert the first element
+     * @param c collection containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        if (c.isEmpty()) {
+            return false;
+        }
+        BTreeList<T> inserted = new BTreeList<>(c);
+        BTreeList<T> tail = split(index);
+        concat(inserted);
+        concat(tail);
+        return true;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        isValidIndex(index);
+        T old = (T) delete(root, height, index);
+        size--;
+        if (size == 0) {
+            root = null;
+            height = 0;
+        } else {
+            collapseRoot();
+        }
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Removes from this list all of the elements whose index is between
+     * fromIndex, inclusive, and toIndex, exclusive, by cutting them out
+     * with two splits and a concatenation.
+     *
+     * @param fromIndex index of first element to be removed
+     * @param toIndex index after last element to be removed
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        BTreeList<T> tail = split(toIndex);
+        split(fromIndex);
+        concat(tail);
+    }
+
+    /**
+     * Removes the elements from the specified position to the end of
+     * this list and returns them as a new list. No element is copied,
+     * the tree is cut along the path to the position in O(log n).
+     *
+     * @param index index of the first element to be moved to the new list
+     * @return list of the elements from the specified position on
+     */
+    public BTreeList<T> split(int index) {
+        if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        BTreeList<T> left = new BTreeList<>();
+        BTreeList<T> right = new BTreeList<>();
+        if (root != null) {
+            splitNode(root, height, index, left, right);
+        }
+        if (left.root != null && right.root != null) {
+            left.lastLeaf().next = null;
+            right.firstLeaf().previous = null;
+        }
+        root = left.root;
+        height = left.height;
+        size = left.size;
+        modCount++;
+        return right;
+    }
+
+    /**
+     * Appends all of the elements of the specified list to the end of this
+     * list, leaving the specified list empty. No element is copied, the
+     * smaller tree is attached to the side of the larger one in O(log n).
+     *
+     * @param other list whose elements are to be moved to this list
+     * @throws IllegalArgumentException if the specified list is this list
+     * @throws NullPointerException if the specified list is null
+     */
+    public void concat(BTreeList<? extends T> other) {
+        if (other == this) throw new IllegalArgumentException("Cannot concat a list to itself");
+        if (other.root == null) {
+            return;
+        }
+        if (root != null) {
+            Leaf last = lastLeaf();
+            Leaf first = other.firstLeaf();
+            last.next = first;
+            first.previous = last;
+        }
+        join(other.root, other.height, other.size);
+        other.root = null;
+        other.height = 0;
+        other.size = 0;
+        other.modCount++;
+        modCount++;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int indexOf(Object o) {
+        int start = 0;
+        for (Leaf leaf = root == null ? null : firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                if (Objects.equals(o, leaf.elements[i])) {
+                    return start + i;
+                }
+            }
+            start += leaf.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int start = size;
+        for (Leaf leaf = root == null ? null : lastLeaf(); leaf != null; leaf = leaf.previous) {
+            start -= leaf.count;
+            for (int i = leaf.count - 1; i >= 0; i--) {
+                if (Objects.equals(o, leaf.elements[i])) {
+                    return start + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    @Override
+    public void clear() {
+        root = null;
+        height = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list
+     * in proper sequence (from first to last element).
+     *
+     * @return an array containing all of the elements in this list in
+     *         proper sequence
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+        for (Leaf leaf = root == null ? null : firstLeaf(); leaf != null; leaf = leaf.next) {
+            System.arraycopy(leaf.elements, 0, array, index, leaf.count);
+            index += leaf.count;
+        }
+        return array;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, starting
+     * at the specified position.
+     *
+     * @param index index of the first element to be returned by next
+     * @return a list iterator starting at the specified position
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        return new ListItr(index);
+    }
+
+    /**
+     * Returns a shallow copy of this list.
+     *
+     * @return a shallow copy of this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public BTreeList<T> clone() {
+        BTreeList<T> clone;
+        try {
+            clone = (BTreeList<T>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        clone.root = null;
+        clone.height = 0;
+        clone.size = 0;
+        clone.modCount = 0;
+        clone.addAll(this);
+        return clone;
+    }
+
+    private void isValidIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IllegalArgumentException("invalid index");
+        }
+    }
+
+    private void insert(int index, Object element) {
+        if (root == null) {
+            root = new Leaf();
+        }
+        Node split = insert(root, height, index, element, index == size);
+        if (split != null) {
+            growRoot(split);
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the element into the subtree and splits the nodes which
+     * overflow on the way back. A node overflowing because of an append
+     * keeps all but its last entry, so appending fills the nodes.
+     *
+     * @return the new right sibling of the node, or {@code null}
+     */
+    private static Node insert(Node node, int h, int index, Object element, boolean append) {
+        if (h == 0) {
+            Leaf leaf = (Leaf) node;
+            System.arraycopy(leaf.elements, index, leaf.elements, index + 1, leaf.count - index);
+            leaf.elements[index] = element;
+            leaf.count++;
+            return leaf.count > NODE_CAPACITY ? leaf.splitOff(append ? NODE_CAPACITY : leaf.count / 2) : null;
+        }
+        Branch branch = (Branch) node;
+        int i = 0;
+        while (i < branch.count - 1 && index > branch.sizes[i]) {
+            index -= branch.sizes[i++];
+        }
+        Node split = insert(branch.children[i], h - 1, index, element, append);
+        branch.sizes[i]++;
+        if (split == null) {
+            return null;
+        }
+        int moved = split.elementCount();
+        branch.sizes[i] -= moved;
+        branch.insertChild(i + 1, split, moved);
+        return branch.count > NODE_CAPACITY ? branch.splitOff(append ? NODE_CAPACITY : branch.count / 2) : null;
+    }
+
+    /**
+     * Removes the element from the subtree and rebalances the child it
+     * was removed from if the child drops below MIN_COUNT entries.
+     *
+     * @return the removed element
+     */
+    private static Object delete(Node node, int h, int index) {
+        if (h == 0) {
+            Leaf leaf = (Leaf) node;
+            Object old = leaf.elements[index];
+            System.arraycopy(leaf.elements, index + 1, leaf.elements, index, leaf.count - index - 1);
+            leaf.elements[--leaf.count] = null;
+            return old;
+        }
+        Branch branch = (Branch) node;
+        int i = 0;
+        while (index >= branch.sizes[i]) {
+            index -= branch.sizes[i++];
+        }
+        Object old = delete(branch.children[i], h - 1, index);
+        branch.sizes[i]--;
+        if (branch.children[i].count < MIN_COUNT && branch.count > 1) {
+            rebalance(branch, i == 0 ? 0 : i - 1);
+        }
+        return old;
+    }
+
+    /**
+     * Merges the children of the branch at the specified position and the
+     * following one if their entries fit into one node, otherwise moves
+     * entries between them so that both are at least half full.
+     */
+    private static void rebalance(Branch branch, int left) {
+        Node l = branch.children[left];
+        Node r = branch.children[left + 1];
+        int total = l.count + r.count;
+        if (total <= NODE_CAPACITY) {
+            l.absorb(r);
+            branch.sizes[left] += branch.sizes[left + 1];
+            branch.removeChild(left + 1);
+            return;
+        }
+        int half = total / 2;
+        int moved = l.count > half ? -l.moveToNext(r, l.count - half) : l.takeFromNext(r, half - l.count);
+        branch.sizes[left] += moved;
+        branch.sizes[left + 1] -= moved;
+    }
+
+    /**
+     * Appends the tree with the specified root to this one. The leaves
+     * of both trees must already be linked.
+     */
+    private void join(Node other, int otherHeight, int otherSize) {
+        if (root == null) {
+            root = other;
+            height = otherHeight;
+            size = otherSize;
+            return;
+        }
+        if (height == otherHeight) {
+            Branch top = new Branch();
+            top.insertChild(0, root, size);
+            top.insertChild(1, other, otherSize);
+            if (root.count < MIN_COUNT || other.count < MIN_COUNT) {
+                rebalance(top, 0);
+            }
+            root = top;
+            height++;
+        } else if (height > otherHeight) {
+            Node split = attachRight(root, height, other, otherHeight, otherSize);
+            if (split != null) {
+                growRoot(split);
+            }
+        } else {
+            Node split = attachLeft(other, otherHeight, root, height, size);
+            root = other;
+            height = otherHeight;
+            if (split != null) {
+                growRoot(split);
+            }
+        }
+        size += otherSize;
+        collapseRoot();
+    }
+
+    /**
+     * Attaches the lower tree b as the last subtree at its height on
+     * the right spine of the tree a.
+     *
+     * @return the new right sibling of a if a overflows, or {@code null}
+     */
+    private static Node attachRight(Node a, int ha, Node b, int hb, int bSize) {
+        Branch branch = (Branch) a;
+        int last = branch.count - 1;
+        if (ha - 1 == hb) {
+            branch.insertChild(last + 1, b, bSize);
+            if (b.count < MIN_COUNT || branch.children[last].count < MIN_COUNT) {
+                rebalance(branch, last);
+            }
+        } else {
+            Node split = attachRight(branch.children[last], ha - 1, b, hb, bSize);
+            branch.sizes[last] += bSize;
+            if (split != null) {
+                int moved = split.elementCount();
+                branch.sizes[last] -= moved;
+                branch.insertChild(last + 1, split, moved);
+            }
+        }
+        return branch.count > NODE_CAPACITY ? branch.splitOff(branch.count / 2) : null;
+    }
+
+    /**
+     * Attaches the lower tree a as the first subtree at its height on
+     * the left spine of the tree b.
+     *
+     * @return the new right sibling of b if b overflows, or {@code null}
+     */
+    private static Node attachLeft(Node b, int hb, Node a, int ha, int aSize) {
+        Branch branch = (Branch) b;
+        if (hb - 1 == ha) {
+            branch.insertChild(0, a, aSize);
+            if (a.count < MIN_COUNT || branch.children[1].count < MIN_COUNT) {
+                rebalance(branch, 0);
+            }
+        } else {
+            Node split = attachLeft(branch.children[0], hb - 1, a, ha, aSize);
+            branch.sizes[0] += aSize;
+            if (split != null) {
+                int moved = split.elementCount();
+                branch.sizes[0] -= moved;
+                branch.insertChild(1, split, moved);
+            }
+        }
+        return branch.count > NODE_CAPACITY ? branch.splitOff(branch.count / 2) : null;
+    }
+
+    /**
+     * Splits the subtree at the specified index. The subtrees left of the
+     * path are appended to the left list on the way down, and the subtrees
+     * right of it to the right list on the way back up, so both lists are
+     * assembled in order.
+     */
+    private static void splitNode(Node node, int h, int index, BTreeList<?> left, BTreeList<?> right) {
+        if (h == 0) {
+            Leaf leaf = (Leaf) node;
+            if (index == 0) {
+                right.join(leaf, 0, leaf.count);
+            } else if (index == leaf.count) {
+                left.join(leaf, 0, leaf.count);
+            } else {
+                Leaf tail = leaf.splitOff(index);
+                left.join(leaf, 0, leaf.count);
+                right.join(tail, 0, tail.count);
+            }
+            return;
+        }
+        Branch branch = (Branch) node;
+        int c = 0;
+        while (c < branch.count - 1 && index >= branch.sizes[c]) {
+            index -= branch.sizes[c++];
+        }
+        Node child = branch.children[c];
+        Branch after = c < branch.count - 1 ? branch.splitOff(c + 1) : null;
+        branch.removeChild(c);
+        if (branch.count > 0) {
+            left.join(branch, h, branch.elementCount());
+        }
+        splitNode(child, h - 1, index, left, right);
+        if (after != null) {
+            right.join(after, h, after.elementCount());
+        }
+    }
+
+    private void growRoot(Node split) {
+        Branch top = new Branch();
+        top.insertChild(0, root, root.elementCount());
+        top.insertChild(1, split, split.elementCount());
+        root = top;
+        height++;
+    }
+
+    private void collapseRoot() {
+        while (height > 0 && root.count == 1) {
+            root = ((Branch) root).children[0];
+            height--;
+        }
+    }
+
+    private Leaf firstLeaf() {
+        Node node = root;
+        for (int h = height; h > 0; h--) {
+            node = ((Branch) node).children[0];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf lastLeaf() {
+        Node node = root;
+        for (int h = height; h > 0; h--) {
+            node = ((Branch) node).children[node.count - 1];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Saves the state of this list to a stream: the size followed by
+     * the elements in proper sequence.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        s.writeInt(size);
+        for (Leaf leaf = root == null ? null : firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                s.writeObject(leaf.elements[i]);
+            }
+        }
+    }
+
+    /**
+     * Reconstitutes this list from a stream.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if the class of an element is not found
+     */
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        int count = s.readInt();
+        for (int i = 0; i < count; i++) {
+            insert(i, s.readObject());
+        }
+    }
+
+    /**
+     * Node of the tree. Every node has room for one entry more than
+     * NODE_CAPACITY, so an overflowing node is split after the insertion.
+     */
+    private abstract static class Node {
+
+        /**
+         * Number of elements of a leaf or children of a branch.
+         */
+        int count;
+
+        /**
+         * Returns the number of elements in this subtree.
+         */
+        abstract int elementCount();
+
+        /**
+         * Moves the entries from the specified position to a new node
+         * and returns it.
+         */
+        abstract Node splitOff(int from);
+
+        /**
+         * Appends all entries of the following sibling to this node.
+         */
+        abstract void absorb(Node right);
+
+        /**
+         * Moves the last n entries of this node to the front of the
+         * following sibling.
+         *
+         * @return the number of elements moved
+         */
+        abstract int moveToNext(Node right, int n);
+
+        /**
+         * Moves the first n entries of the following sibling to the end
+         * of this node.
+         *
+         * @return the number of elements moved
+         */
+        abstract int takeFromNext(Node right, int n);
+    }
+
+    private static final class Leaf extends Node {
+
+        final Object[] elements = new Object[NODE_CAPACITY + 1];
+        Leaf previous;
+        Leaf next;
+
+        @Override
+        int elementCount() {
+            return count;
+        }
+
+        @Override
+        Leaf splitOff(int from) {
+            Leaf tail = new Leaf();
+            tail.count = count - from;
+            System.arraycopy(elements, from, tail.elements, 0, tail.count);
+            Arrays.fill(elements, from, count, null);
+            count = from;
+            tail.previous = this;
+            tail.next = next;
+            if (next != null) {
+                next.previous = tail;
+            }
+            next = tail;
+            return tail;
+        }
+
+        @Override
+        void absorb(Node node) {
+            Leaf right = (Leaf) node;
+            System.arraycopy(right.elements, 0, elements, count, right.count);
+            count += right.count;
+            next = right.next;
+            if (next != null) {
+                next.previous = this;
+            }
+            Arrays.fill(right.elements, 0, right.count, null);
+            right.count = 0;
+            right.previous = null;
+            right.next = null;
+        }
+
+        @Override
+        int moveToNext(Node node, int n) {
+            Leaf right = (Leaf) node;
+            System.arraycopy(right.elements, 0, right.elements, n, right.count);
+            System.arraycopy(elements, count - n, right.elements, 0, n);
+            Arrays.fill(elements, count - n, count, null);
+            count -= n;
+            right.count += n;
+            return n;
+        }
+
+        @Override
+        int takeFromNext(Node node, int n) {
+            Leaf right = (Leaf) node;
+            System.arraycopy(right.elements, 0, elements, count, n);
+            System.arraycopy(right.elements, n, right.elements, 0, right.count - n);
+            Arrays.fill(right.elements, right.count - n, right.count, null);
+            count += n;
+            right.count -= n;
+            return n;
+        }
+    }
+
+    private static final class Branch extends Node {
+
+        final Node[] children = new Node[NODE_CAPACITY + 1];
+
+        /**
+         * Number of elements below every child.
+         */
+        final int[] sizes = new int[NODE_CAPACITY + 1];
+
+        @Override
+        int elementCount() {
+            return sum(0, count);
+        }
+
+        void insertChild(int index, Node child, int childSize) {
+            System.arraycopy(children, index, children, index + 1, count - index);
+            System.arraycopy(sizes, index, sizes, index + 1, count - index);
+            children[index] = child;
+            sizes[index] = childSize;
+            count++;
+        }
+
+        void removeChild(int index) {
+            System.arraycopy(children, index + 1, children, index, count - index - 1);
+            System.arraycopy(sizes, index + 1, sizes, index, count - index - 1);
+            children[--count] = null;
+        }
+
+        @Override
+        Branch splitOff(int from) {
+            Branch tail = new Branch();
+            tail.count = count - from;
+            System.arraycopy(children, from, tail.children, 0, tail.count);
+            System.arraycopy(sizes, from, tail.sizes, 0, tail.count);
+            Arrays.fill(children, from, count, null);
+            count = from;
+            return tail;
+        }
+
+        @Override
+        void absorb(Node node) {
+            Branch right = (Branch) node;
+            System.arraycopy(right.children, 0, children, count, right.count);
+            System.arraycopy(right.sizes, 0, sizes, count, right.count);
+            count += right.count;
+            Arrays.fill(right.children, 0, right.count, null);
+            right.count = 0;
+        }
+
+        @Override
+        int moveToNext(Node node, int n) {
+            Branch right = (Branch) node;
+            int moved = sum(count - n, count);
+            System.arraycopy(right.children, 0, right.children, n, right.count);
+            System.arraycopy(right.sizes, 0, right.sizes, n, right.count);
+            System.arraycopy(children, count - n, right.children, 0, n);
+            System.arraycopy(sizes, count - n, right.sizes, 0, n);
+            Arrays.fill(children, count - n, count, null);
+            count -= n;
+            right.count += n;
+            return moved;
+        }
+
+        @Override
+        int takeFromNext(Node node, int n) {
+            Branch right = (Branch) node;
+            int moved = right.sum(0, n);
+            System.arraycopy(right.children, 0, children, count, n);
+            System.arraycopy(right.sizes, 0, sizes, count, n);
+            System.arraycopy(right.children, n, right.children, 0, right.count - n);
+            System.arraycopy(right.sizes, n, right.sizes, 0, right.count - n);
+            Arrays.fill(right.children, right.count - n, right.count, null);
+            count += n;
+            right.count -= n;
+            return moved;
+        }
+
+        private int sum(int from, int to) {
+            int total = 0;
+            for (int i = from; i < to; i++) {
+                total += sizes[i];
+            }
+            return total;
+        }
+    }
+
+    /**
+     * List iterator walking the leaf chain. Structural modifications go
+     * through the positional operations of the list, after which the
+     * iterator finds its position again.
+     */
+    private class ListItr implements ListIterator<T> {
+
+        /**
+         * Leaf holding the cursor, {@code null} only in an empty list. The
+         * offset may equal the leaf's count at the boundary of two leaves.
+         */
+        private Leaf leaf;
+        private int offset;
+        private int nextIndex;
+        private Leaf lastLeaf;
+        private int lastOffset;
+        private int lastIndex = -1;
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            seek(index);
+        }
+
+        private void seek(int index) {
+            nextIndex = index;
+            if (root == null) {
+                leaf = null;
+                offset = 0;
+                return;
+            }
+            Node node = root;
+            for (int h = height; h > 0; h--) {
+                Branch branch = (Branch) node;
+                int i = 0;
+                while (i < branch.count - 1 && index > branch.sizes[i]) {
+                    index -= branch.sizes[i++];
+                }
+                node = branch.children[i];
+            }
+            leaf = (Leaf) node;
+            offset = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) throw new NoSuchElementException();
+            if (offset == leaf.count) {
+                leaf = leaf.next;
+                offset = 0;
+            }
+            lastLeaf = leaf;
+            lastOffset = offset;
+            lastIndex = nextIndex++;
+            return (T) leaf.elements[offset++];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) throw new NoSuchElementException();
+            if (offset == 0) {
+                leaf = leaf.previous;
+                offset = leaf.count;
+            }
+            lastLeaf = leaf;
+            lastOffset = --offset;
+            lastIndex = --nextIndex;
+            return (T) leaf.elements[offset];
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastIndex < 0) throw new IllegalStateException();
+            BTreeList.this.remove(lastIndex);
+            seek(lastIndex);
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T t) {
+            if (lastIndex < 0) throw new IllegalStateException();
+            checkForComodification();
+            lastLeaf.elements[lastOffset] = t;
+        }
+
+        @Override
+        public void add(T t) {
+            checkForComodification();
+            insert(nextIndex, t);
+            seek(nextIndex + 1);
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+}
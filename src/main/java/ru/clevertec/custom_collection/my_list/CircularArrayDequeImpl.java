@@ -0,0 +1,698 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * <p>Circular array implementation of the {@link List} and {@link Deque}
+ * interfaces.</p>
+ * <p>Elements are kept in a ring buffer whose capacity is a power of two,
+ * so a logical index is mapped onto the array with a mask instead of a
+ * division. Unlike {@link LinkedListImpl} adding or removing an element
+ * at either end allocates nothing, and {@link #get} is constant time.
+ * When the buffer is full it is doubled, copying the elements so that
+ * the first one lands at the start of the new array.</p>
+ * <p>Insertion or removal at an arbitrary index shifts the shorter of
+ * the two sides of the buffer. Null elements are permitted.</p>
+ * @param <T> the type of elements in this list
+ * @author  Olga Mailychko
+ * @see     LinkedListImpl
+ * @since   1.8
+ */
+public class CircularArrayDequeImpl<T> extends AbstractList<T>
+        implements List<T>, Deque<T>, RandomAccess, Cloneable, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    /**
+     * Default initial capacity, a power of two.
+     */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * The largest power of two capacity.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * The ring buffer, its length is always a power of two.
+     */
+    private transient Object[] elements;
+
+    /**
+     * Index in the buffer of the first element.
+     */
+    private transient int head;
+
+    /**
+     * Current size of the list.
+     */
+    private transient int size;
+
+    /**
+     * Constructs an empty list with the DEFAULT_INITIAL_CAPACITY.
+     */
+    public CircularArrayDequeImpl() {
+        this.elements = new Object[DEFAULT_INITIAL_CAPACITY];
+    }
+
+    /**
+     * Constructs an empty list able to hold the specified number of
+     * elements without growing.
+     *
+     * @param  initialCapacity  the number of elements to hold
+     * @throws IllegalArgumentException if the specified initial capacity
+     *         is negative
+     */
+    public CircularArrayDequeImpl(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        this.elements = new Object[capacityFor(initialCapacity)];
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this list contains no elements.
+     *
+     * @return {@code true} if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    public T get(int index) {
+        isValidIndex(index);
+        return elementAt(slot(index));
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     */
+    @Override
+    public T set(int index, T element) {
+        isValidIndex(index);
+        int slot = slot(index);
+        T old = elementAt(slot);
+        elements[slot] = element;
+        return old;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param t element to be appended to this list
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(T t) {
+        addLast(t);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this
+     * list, shifting the shorter side of the buffer by one.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        if (size == elements.length) {
+            grow();
+        }
+        int mask = elements.length - 1;
+        if (index < size >> 1) {
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+        }
+        elements[(head + index) & mask] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified position in this list,
+     * shifting the shorter side of the buffer by one.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     */
+    @Override
+    public T remove(int index) {
+        isValidIndex(index);
+        int mask = elements.length - 1;
+        T old = elementAt((head + index) & mask);
+        if (index < size >> 1) {
+            for (int i = index; i > 0; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+            elements[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+            elements[(head + size - 1) & mask] = null;
+        }
+        size--;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list,
+     * if it is present.
+     *
+     * @param o element to be removed from this list, if present
+     * @return {@code true} if this list contained the specified element
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Removes all of the elements from this list. The capacity is kept.
+     */
+    @Override
+    public void clear() {
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & mask] = null;
+        }
+        head = size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int indexOf(Object o) {
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, elements[(head + i) & mask])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int mask = elements.length - 1;
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(o, elements[(head + i) & mask])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified element.
+     *
+     * @param o element whose presence in this list is to be tested
+     * @return {@code true} if this list contains the specified element
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list
+     * in proper sequence (from first to last element).
+     *
+     * @return an array containing all of the elements in this list in
+     *         proper sequence
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyTo(array);
+        return array;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in reverse order.
+     *
+     * @return an iterator over the elements in reverse order
+     */
+    @Override
+    public Iterator<T> descendingIterator() {
+        ListIterator<T> iterator = listIterator(size);
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public T next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    // Deque operations
+    /**
+     * Inserts the specified element at the beginning of this list.
+     *
+     * @param t the element to add
+     */
+    @Override
+    public void addFirst(T t) {
+        if (size == elements.length) {
+            grow();
+        }
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = t;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param t the element to add
+     */
+    @Override
+    public void addLast(T t) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[slot(size)] = t;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the specified element at the front of this list.
+     *
+     * @param t the element to insert
+     * @return {@code true}
+     */
+    @Override
+    public boolean offerFirst(T t) {
+        addFirst(t);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the end of this list.
+     *
+     * @param t the element to insert
+     * @return {@code true}
+     */
+    @Override
+    public boolean offerLast(T t) {
+        addLast(t);
+        return true;
+    }
+
+    /**
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return pollFirst();
+    }
+
+    /**
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return pollLast();
+    }
+
+    /**
+     * Retrieves and removes the first element of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the first element of this list, or {@code null} if
+     *         this list is empty
+     */
+    @Override
+    public T pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        T element = elementAt(head);
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /**
+     * Retrieves and removes the last element of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the last element of this list, or {@code null} if
+     *         this list is empty
+     */
+    @Override
+    public T pollLast() {
+        if (size == 0) {
+            return null;
+        }
+        int slot = slot(size - 1);
+        T element = elementAt(slot);
+        elements[slot] = null;
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /**
+     * Returns the first element in this list.
+     *
+     * @return the first element in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return elementAt(head);
+    }
+
+    /**
+     * Returns the last element in this list.
+     *
+     * @return the last element in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return elementAt(slot(size - 1));
+    }
+
+    /**
+     * Retrieves, but does not remove, the first element of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the first element of this list, or {@code null} if
+     *         this list is empty
+     */
+    @Override
+    public T peekFirst() {
+        return size == 0 ? null : elementAt(head);
+    }
+
+    /**
+     * Retrieves, but does not remove, the last element of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the last element of this list, or {@code null} if
+     *         this list is empty
+     */
+    @Override
+    public T peekLast() {
+        return size == 0 ? null : elementAt(slot(size - 1));
+    }
+
+    /**
+     * Removes the first occurrence of the specified element in this
+     * list. If the list does not contain the element, it is unchanged.
+     *
+     * @param o element to be removed from this list, if present
+     * @return {@code true} if the list contained the specified element
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes the last occurrence of the specified element in this
+     * list. If the list does not contain the element, it is unchanged.
+     *
+     * @param o element to be removed from this list, if present
+     * @return {@code true} if the list contained the specified element
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Adds the specified element as the tail (last element) of this list.
+     *
+     * @param t the element to add
+     * @return {@code true}
+     */
+    @Override
+    public boolean offer(T t) {
+        return offerLast(t);
+    }
+
+    /**
+     * Retrieves and removes the head (first element) of this list.
+     *
+     * @return the head of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Retrieves and removes the head (first element) of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the head of this list, or {@code null} if this list is empty
+     */
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Retrieves, but does not remove, the head (first element) of this list.
+     *
+     * @return the head of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    /**
+     * Retrieves, but does not remove, the head (first element) of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the head of this list, or {@code null} if this list is empty
+     */
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Pushes an element onto the stack represented by this list.
+     *
+     * @param t the element to push
+     */
+    @Override
+    public void push(T t) {
+        addFirst(t);
+    }
+
+    /**
+     * Pops an element from the stack represented by this list.
+     *
+     * @return the element at the front of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Returns a shallow copy of this list.
+     *
+     * @return a shallow copy of this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public CircularArrayDequeImpl<T> clone() {
+        CircularArrayDequeImpl<T> clone;
+        try {
+            clone = (CircularArrayDequeImpl<T>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        clone.elements = elements.clone();
+        clone.modCount = 0;
+        return clone;
+    }
+
+    /**
+     * Adds passed array of objects to list.
+     *
+     * @param objects array of objects list to be initialized with
+     */
+    @SafeVarargs
+    static <T> List<T> of(T... objects) {
+        List<T> list = new CircularArrayDequeImpl<>(objects.length);
+        for (T object : objects) {
+            list.add(object);
+        }
+        return list;
+    }
+
+    /**
+     * Doubles the capacity of the buffer, unwrapping the elements so that
+     * the first one is at index zero.
+     */
+    private void grow() {
+        if (elements.length == MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        Object[] grown = new Object[elements.length << 1];
+        copyTo(grown);
+        elements = grown;
+        head = 0;
+    }
+
+    /**
+     * Copies the elements in proper sequence to the start of the array.
+     */
+    private void copyTo(Object[] array) {
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, array, 0, firstPart);
+        System.arraycopy(elements, 0, array, firstPart, size - firstPart);
+    }
+
+    /**
+     * Returns the smallest power of two capacity holding the specified
+     * number of elements.
+     */
+    private static int capacityFor(int numElements) {
+        if (numElements >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        int capacity = Integer.highestOneBit(Math.max(numElements, 2) - 1) << 1;
+        return Math.max(capacity, 2);
+    }
+
+    private int slot(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int slot) {
+        return (T) elements[slot];
+    }
+
+    private void isValidIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IllegalArgumentException("invalid index");
+        }
+    }
+
+    /**
+     * Saves the state of this list to a stream: the size followed by
+     * the elements in proper sequence.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        s.writeInt(size);
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            s.writeObject(elements[(head + i) & mask]);
+        }
+    }
+
+    /**
+     * Reconstitutes this list from a stream.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if the class of an element is not found
+     */
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        int count = s.readInt();
+        if (count < 0) {
+            throw new InvalidObjectException("Illegal size: " + count);
+        }
+        elements = new Object[capacityFor(count)];
+        for (int i = 0; i < count; i++) {
+            elements[i] = s.readObject();
+        }
+        size = count;
+    }
+}
@@ -0,0 +1,731 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * <p>Non-blocking thread-safe implementation of the {@link Deque}
+ * interface built from CAS-linked nodes.</p>
+ * <p>The deque follows the anchor-based algorithm by M. Michael
+ * ("CAS-Based Lock-Free Algorithm for Shared Deques", 2003). Both ends and
+ * a status word live in one immutable anchor replaced by compare-and-set.
+ * A push first swings the anchor to the new node and then, in a separate
+ * step any thread may complete, links the former end node to it. No
+ * operation ever waits for another thread, so a stalled thread cannot
+ * block producers or consumers.</p>
+ * <p>An element is removed, at an end or in the interior, by clearing it
+ * in its node with compare-and-set, as in
+ * {@link java.util.concurrent.ConcurrentLinkedDeque}; the thread whose
+ * compare-and-set succeeds owns the element. Nodes with a cleared
+ * element are skipped by all operations and unlinked lazily once they
+ * reach an end. Unlinking a node clears the link from the new end back
+ * to it, so it becomes unreachable. A push racing with it simply links
+ * over the cleared value.</p>
+ * <p>Iterators support {@code remove} and are weakly consistent: they
+ * never throw {@link ConcurrentModificationException} and return elements
+ * that were present at some point during the traversal. {@link #size()}
+ * traverses the deque and is therefore linear.</p>
+ * <p>{@code null} elements are not permitted, as {@code null} is the
+ * "empty" result of {@code poll} and {@code peek}.</p>
+ * @param <T> the type of elements in this deque
+ * @author  Olga Mailychko
+ * @see     LinkedListImpl
+ * @since   1.8
+ */
+public class ConcurrentLinkedDequeImpl<T> extends AbstractCollection<T>
+        implements Deque<T> {
+
+    private static final int STABLE = 0;
+    private static final int RIGHT_PUSH = 1;
+    private static final int LEFT_PUSH = 2;
+
+    /**
+     * Current ends of the deque and its status.
+     */
+    private final AtomicReference<Anchor<T>> anchor = new AtomicReference<>(Anchor.empty());
+
+    /**
+     * Constructs an empty deque.
+     */
+    public ConcurrentLinkedDequeImpl() {
+    }
+
+    /**
+     * Inserts the specified element at the front of this deque.
+     *
+     * @param t the element to add
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public void addFirst(T t) {
+        Node<T> node = new Node<>(t);
+        for (;;) {
+            Anchor<T> a = anchor.get();
+            if (a.left == null) {
+                if (anchor.compareAndSet(a, new Anchor<>(node, node, STABLE))) {
+                    return;
+                }
+            } else if (a.status == STABLE) {
+                node.right = a.left;
+                Anchor<T> pushed = new Anchor<>(node, a.right, LEFT_PUSH);
+                if (anchor.compareAndSet(a, pushed)) {
+                    stabilizeLeft(pushed);
+                    return;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Inserts the specified element at the end of this deque.
+     *
+     * @param t the element to add
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public void addLast(T t) {
+        Node<T> node = new Node<>(t);
+        for (;;) {
+            Anchor<T> a = anchor.get();
+            if (a.right == null) {
+                if (anchor.compareAndSet(a, new Anchor<>(node, node, STABLE))) {
+                    return;
+                }
+            } else if (a.status == STABLE) {
+                node.left = a.right;
+                Anchor<T> pushed = new Anchor<>(a.left, node, RIGHT_PUSH);
+                if (anchor.compareAndSet(a, pushed)) {
+                    stabilizeRight(pushed);
+                    return;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Inserts the specified element at the front of this deque.
+     *
+     * @param t the element to add
+     * @return {@code true}
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean offerFirst(T t) {
+        addFirst(t);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the end of this deque.
+     *
+     * @param t the element to add
+     * @return {@code true}
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean offerLast(T t) {
+        addLast(t);
+        return true;
+    }
+
+    /**
+     * Retrieves and removes the first element of this deque,
+     * or returns {@code null} if this deque is empty.
+     *
+     * @return the first element of this deque, or {@code null} if
+     *         this deque is empty
+     */
+    @Override
+    public T pollFirst() {
+        for (;;) {
+            Node<T> first = anchor.get().left;
+            if (first == null) {
+                return null;
+            }
+            T element = first.element;
+            if (element == null) {
+                unlinkFirst(first);
+            } else if (anchor.get().left == first && first.casElement(element, null)) {
+                unlinkFirst(first);
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes the last element of this deque,
+     * or returns {@code null} if this deque is empty.
+     *
+     * @return the last element of this deque, or {@code null} if
+     *         this deque is empty
+     */
+    @Override
+    public T pollLast() {
+        for (;;) {
+            Node<T> last = anchor.get().right;
+            if (last == null) {
+                return null;
+            }
+            T element = last.element;
+            if (element == null) {
+                unlinkLast(last);
+            } else if (anchor.get().right == last && last.casElement(element, null)) {
+                unlinkLast(last);
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the first element of this deque.
+     *
+     * @return the first element of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    @Override
+    public T removeFirst() {
+        T element = pollFirst();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Removes and returns the last element of this deque.
+     *
+     * @return the last element of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    @Override
+    public T removeLast() {
+        T element = pollLast();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Retrieves, but does not remove, the first element of this deque,
+     * or returns {@code null} if this deque is empty.
+     *
+     * @return the first element of this deque, or {@code null} if
+     *         this deque is empty
+     */
+    @Override
+    public T peekFirst() {
+        for (;;) {
+            Node<T> first = anchor.get().left;
+            if (first == null) {
+                return null;
+            }
+            T element = first.element;
+            if (element != null) {
+                return element;
+            }
+            unlinkFirst(first);
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the last element of this deque,
+     * or returns {@code null} if this deque is empty.
+     *
+     * @return the last element of this deque, or {@code null} if
+     *         this deque is empty
+     */
+    @Override
+    public T peekLast() {
+        for (;;) {
+            Node<T> last = anchor.get().right;
+            if (last == null) {
+                return null;
+            }
+            T element = last.element;
+            if (element != null) {
+                return element;
+            }
+            unlinkLast(last);
+        }
+    }
+
+    /**
+     * Returns the first element of this deque.
+     *
+     * @return the first element of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    @Override
+    public T getFirst() {
+        T element = peekFirst();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Returns the last element of this deque.
+     *
+     * @return the last element of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    @Override
+    public T getLast() {
+        T element = peekLast();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Appends the specified element to the end of this deque.
+     *
+     * @param t the element to add
+     * @return {@code true}
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean add(T t) {
+        return offerLast(t);
+    }
+
+    /**
+     * Appends the specified element to the end of this deque.
+     *
+     * @param t the element to add
+     * @return {@code true}
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean offer(T t) {
+        return offerLast(t);
+    }
+
+    /**
+     * Retrieves and removes the head (first element) of this deque.
+     *
+     * @return the head of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Retrieves and removes the head (first element) of this deque,
+     * or returns {@code null} if this deque is empty.
+     *
+     * @return the head of this deque, or {@code null} if this deque is empty
+     */
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Retrieves, but does not remove, the head (first element) of this deque.
+     *
+     * @return the head of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    /**
+     * Retrieves, but does not remove, the head (first element) of this deque,
+     * or returns {@code null} if this deque is empty.
+     *
+     * @return the head of this deque, or {@code null} if this deque is empty
+     */
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Pushes an element onto the stack represented by this deque.
+     *
+     * @param t the element to push
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public void push(T t) {
+        addFirst(t);
+    }
+
+    /**
+     * Pops an element from the stack represented by this deque.
+     *
+     * @return the element at the front of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this
+     * deque, if it is present.
+     *
+     * @param o element to be removed from this deque, if present
+     * @return {@code true} if an element was removed as a result of this call
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return removeOccurrence(o, true);
+    }
+
+    /**
+     * Removes the last occurrence of the specified element from this
+     * deque, if it is present.
+     *
+     * @param o element to be removed from this deque, if present
+     * @return {@code true} if an element was removed as a result of this call
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        return removeOccurrence(o, false);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this
+     * deque, if it is present.
+     *
+     * @param o element to be removed from this deque, if present
+     * @return {@code true} if an element was removed as a result of this call
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Returns {@code true} if this deque contains no elements.
+     *
+     * @return {@code true} if this deque contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return peekFirst() == null;
+    }
+
+    /**
+     * Returns the number of elements in this deque. The deque is
+     * traversed, so the result is only an estimate under concurrent
+     * modification.
+     *
+     * @return the number of elements in this deque
+     */
+    @Override
+    public int size() {
+        int count = 0;
+        for (Iterator<T> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+            if (++count == Integer.MAX_VALUE) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Atomically removes all of the elements from this deque.
+     */
+    @Override
+    public void clear() {
+        for (;;) {
+            Anchor<T> a = anchor.get();
+            if (a.left == null || anchor.compareAndSet(a, Anchor.empty())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements in this
+     * deque from first to last.
+     *
+     * @return an iterator over the elements in this deque
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Anchor<T> a = stableAnchor();
+        return new Itr(a.left, a.right, true);
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements in this
+     * deque from last to first.
+     *
+     * @return an iterator over the elements in reverse order
+     */
+    @Override
+    public Iterator<T> descendingIterator() {
+        Anchor<T> a = stableAnchor();
+        return new Itr(a.right, a.left, false);
+    }
+
+    private boolean removeOccurrence(Object o, boolean forward) {
+        if (o == null) throw new NullPointerException();
+        Anchor<T> a = stableAnchor();
+        Itr itr = forward ? new Itr(a.left, a.right, true) : new Itr(a.right, a.left, false);
+        while (itr.hasNext()) {
+            if (o.equals(itr.next()) && itr.removeReturned()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Unlinks the node with a cleared element if it is still the left end,
+     * which releases the node.
+     */
+    private void unlinkFirst(Node<T> first) {
+        for (;;) {
+            Anchor<T> a = anchor.get();
+            if (a.left != first) {
+                return;
+            }
+            if (a.left == a.right) {
+                if (anchor.compareAndSet(a, Anchor.empty())) {
+                    return;
+                }
+            } else if (a.status == STABLE) {
+                Node<T> next = first.right;
+                if (anchor.compareAndSet(a, new Anchor<>(next, a.right, STABLE))) {
+                    Node.LEFT.compareAndSet(next, first, null);
+                    return;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Unlinks the node with a cleared element if it is still the right end,
+     * which releases the node.
+     */
+    private void unlinkLast(Node<T> last) {
+        for (;;) {
+            Anchor<T> a = anchor.get();
+            if (a.right != last) {
+                return;
+            }
+            if (a.left == a.right) {
+                if (anchor.compareAndSet(a, Anchor.empty())) {
+                    return;
+                }
+            } else if (a.status == STABLE) {
+                Node<T> previous = last.left;
+                if (anchor.compareAndSet(a, new Anchor<>(a.left, previous, STABLE))) {
+                    Node.RIGHT.compareAndSet(previous, last, null);
+                    return;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Unlinks nodes with cleared elements at both ends. Such nodes in the
+     * interior stay linked until they reach an end.
+     */
+    private void unlinkRemovedEnds() {
+        peekFirst();
+        peekLast();
+    }
+
+    /**
+     * Returns the current anchor after helping to complete a pending push,
+     * so that all links between its ends are consistent.
+     */
+    private Anchor<T> stableAnchor() {
+        for (;;) {
+            Anchor<T> a = anchor.get();
+            if (a.status == STABLE) {
+                return a;
+            }
+            stabilize(a);
+        }
+    }
+
+    private void stabilize(Anchor<T> a) {
+        if (a.status == RIGHT_PUSH) {
+            stabilizeRight(a);
+        } else {
+            stabilizeLeft(a);
+        }
+    }
+
+    /**
+     * Links the former right end to the node pushed on the right and marks
+     * the anchor stable.
+     */
+    private void stabilizeRight(Anchor<T> a) {
+        Node<T> previous = a.right.left;
+        if (anchor.get() != a) {
+            return;
+        }
+        Node<T> previousNext = previous.right;
+        if (previousNext != a.right) {
+            if (anchor.get() != a) {
+                return;
+            }
+            if (!Node.RIGHT.compareAndSet(previous, previousNext, a.right)) {
+                return;
+            }
+        }
+        anchor.compareAndSet(a, new Anchor<>(a.left, a.right, STABLE));
+    }
+
+    /**
+     * Links the former left end to the node pushed on the left and marks
+     * the anchor stable.
+     */
+    private void stabilizeLeft(Anchor<T> a) {
+        Node<T> next = a.left.right;
+        if (anchor.get() != a) {
+            return;
+        }
+        Node<T> nextPrevious = next.left;
+        if (nextPrevious != a.left) {
+            if (anchor.get() != a) {
+                return;
+            }
+            if (!Node.LEFT.compareAndSet(next, nextPrevious, a.left)) {
+                return;
+            }
+        }
+        anchor.compareAndSet(a, new Anchor<>(a.left, a.right, STABLE));
+    }
+
+    /**
+     * Immutable snapshot of both ends of the deque and its status.
+     */
+    private static final class Anchor<T> {
+
+        final Node<T> left;
+        final Node<T> right;
+        final int status;
+
+        Anchor(Node<T> left, Node<T> right, int status) {
+            this.left = left;
+            this.right = right;
+            this.status = status;
+        }
+
+        static <T> Anchor<T> empty() {
+            return new Anchor<>(null, null, STABLE);
+        }
+    }
+
+    private static final class Node<T> {
+
+        @SuppressWarnings("rawtypes")
+        static final AtomicReferenceFieldUpdater<Node, Node> LEFT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "left");
+        @SuppressWarnings("rawtypes")
+        static final AtomicReferenceFieldUpdater<Node, Node> RIGHT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "right");
+
+        @SuppressWarnings("rawtypes")
+        static final AtomicReferenceFieldUpdater<Node, Object> ELEMENT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "element");
+
+        /**
+         * The element, or {@code null} once it has been removed.
+         */
+        volatile T element;
+        volatile Node<T> left;
+        volatile Node<T> right;
+
+        Node(T element) {
+            if (element == null) throw new NullPointerException();
+            this.element = element;
+        }
+
+        boolean casElement(T expected, T update) {
+            return ELEMENT.compareAndSet(this, expected, update);
+        }
+    }
+
+    /**
+     * Iterator following the links from one end of a stable anchor
+     * towards the other, skipping nodes with a cleared element.
+     */
+    private final class Itr implements Iterator<T> {
+
+        private final Node<T> last;
+        private final boolean forward;
+        private Node<T> nextNode;
+        private T nextElement;
+        private Node<T> lastReturned;
+        private T lastElement;
+
+        Itr(Node<T> first, Node<T> last, boolean forward) {
+            this.last = last;
+            this.forward = forward;
+            advance(first);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            Node<T> node = nextNode;
+            if (node == null) throw new NoSuchElementException();
+            lastReturned = node;
+            lastElement = nextElement;
+            advance(node == last ? null : forward ? node.right : node.left);
+            return lastElement;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException();
+            removeReturned();
+        }
+
+        /**
+         * Clears the last returned element in its node, unless it has been
+         * removed meanwhile.
+         *
+         * @return {@code true} if this call removed the element
+         */
+        boolean removeReturned() {
+            Node<T> node = lastReturned;
+            lastReturned = null;
+            if (node.casElement(lastElement, null)) {
+                unlinkRemovedEnds();
+                return true;
+            }
+            return false;
+        }
+
+        private void advance(Node<T> node) {
+            while (node != null) {
+                T element = node.element;
+                if (element != null) {
+                    nextNode = node;
+                    nextElement = element;
+                    return;
+                }
+                node = node == last ? null : forward ? node.right : node.left;
+            }
+            nextNode = null;
+            nextElement = null;
+        }
+    }
+}
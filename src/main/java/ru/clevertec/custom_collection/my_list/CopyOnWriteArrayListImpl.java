@@ -0,0 +1,781 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>Thread-safe variant of {@link ArrayListImpl} in which all mutative
+ * operations are implemented by making a fresh copy of the array.</p>
+ * <p>Reads are lock-free: they see the array published by the latest
+ * completed write through a volatile reference. Writes are serialized by
+ * a lock. Several edits can be batched with {@link #mutate(Consumer)} so
+ * that one copy covers all of them.</p>
+ * <p>Iterators work on the snapshot taken when they were created. They
+ * never throw {@link ConcurrentModificationException} and do not support
+ * modification. Views returned by {@link #subList(int, int)} do support
+ * modification, each change copying the array once.</p>
+ * @param <T> the type of elements in this list
+ * @author  Olga Mailychko
+ * @see     ArrayListImpl
+ * @since   1.8
+ */
+public class CopyOnWriteArrayListImpl<T> extends AbstractList<T>
+        implements List<T>, RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Lock guarding all mutators.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The array buffer, exactly as long as the list. Never modified
+     * after publication.
+     */
+    private transient volatile Object[] data;
+
+    /**
+     * Constructs an empty list.
+     */
+    public CopyOnWriteArrayListImpl() {
+        data = new Object[0];
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified
+     * collection, in the order they are returned by its iterator.
+     *
+     * @param c the collection of initially held elements
+     * @throws NullPointerException if the specified collection is null
+     */
+    public CopyOnWriteArrayListImpl(Collection<? extends T> c) {
+        data = Arrays.copyOf(c.toArray(), c.size(), Object[].class);
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return data.length;
+    }
+
+    /**
+     * Returns {@code true} if this list contains no elements.
+     *
+     * @return {@code true} if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return data.length == 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Object[] snapshot = data;
+        if (index >= snapshot.length || index < 0) throw new IllegalArgumentException("invalid index");
+        return (T) snapshot[index];
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified element.
+     *
+     * @param o element whose presence in this list is to be tested
+     * @return {@code true} if this list contains the specified element
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int indexOf(Object o) {
+        return indexOf(o, data);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        Object[] snapshot = data;
+        for (int i = snapshot.length - 1; i >= 0; i--) {
+            if (Objects.equals(o, snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list
+     * in proper sequence (from first to last element).
+     *
+     * @return an array containing all of the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] snapshot = data;
+        return Arrays.copyOf(snapshot, snapshot.length);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with
+     * the specified element.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     */
+    @Override
+    public T set(int index, T element) {
+        return write(list -> {
+            T old = list.get(index);
+            list.set(index, element);
+            return old;
+        });
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param t element to be appended to this list
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(T t) {
+        lock.lock();
+        try {
+            Object[] current = data;
+            Object[] copy = Arrays.copyOf(current, current.length + 1);
+            copy[current.length] = t;
+            data = copy;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the element, if not present.
+     *
+     * @param t element to be added to this list, if absent
+     * @return {@code true} if the element was added
+     */
+    public boolean addIfAbsent(T t) {
+        if (indexOf(t, data) >= 0) {
+            return false;
+        }
+        lock.lock();
+        try {
+            return indexOf(t, data) < 0 && add(t);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this
+     * list.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    @Override
+    public void add(int index, T element) {
+        write(list -> {
+            list.add(index, element);
+            return null;
+        });
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     */
+    @Override
+    public T remove(int index) {
+        return write(list -> list.remove(index));
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list,
+     * if it is present.
+     *
+     * @param o element to be removed from this list, if present
+     * @return {@code true} if this list contained the specified element
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (indexOf(o, data) < 0) {
+            return false;
+        }
+        return write(list -> {
+            int index = list.indexOf(o);
+            if (index < 0) {
+                return false;
+            }
+            list.remove(index);
+            return true;
+        });
+    }
+
+    /**
+     * Appends all of the elements in the specified collection to the end
+     * of this list with a single copy.
+     *
+     * @param c collection containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        Object[] added = c.toArray();
+        if (added.length == 0) {
+            return false;
+        }
+        lock.lock();
+        try {
+            Object[] current = data;
+            Object[] copy = Arrays.copyOf(current, current.length + added.length);
+            System.arraycopy(added, 0, copy, current.length, added.length);
+            data = copy;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts all of the elements in the specified collection into this
+     * list, starting at the specified position, with a single copy.
+     *
+     * @param index index at which to insert the first element
+     * @param c collection containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        return write(list -> list.addAll(index, c));
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given
+     * predicate with a single copy.
+     *
+     * @param filter a predicate which returns {@code true} for elements
+     *               to be removed
+     * @return {@code true} if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) throw new NullPointerException();
+        return write(list -> list.removeIf(filter));
+    }
+
+    /**
+     * Removes from this list all of its elements that are contained
+     * in the specified collection with a single copy.
+     *
+     * @param c collection containing elements to be removed from this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        if (c == null) throw new NullPointerException();
+        return removeIf(c::contains);
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the
+     * specified collection with a single copy.
+     *
+     * @param c collection containing elements to be retained in this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        if (c == null) throw new NullPointerException();
+        return removeIf(element -> !c.contains(element));
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the
+     * operator to that element with a single copy.
+     *
+     * @param operator the operator to apply to each element
+     */
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        if (operator == null) throw new NullPointerException();
+        mutate(list -> list.replaceAll(operator));
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified
+     * comparator with a single copy.
+     *
+     * @param c the comparator used to compare list elements
+     */
+    @Override
+    public void sort(Comparator<? super T> c) {
+        mutate(list -> list.sort(c));
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            data = new Object[0];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified
+     * fromIndex, inclusive, and toIndex, exclusive. Changes made through
+     * the view are applied with a single copy of the array, like those
+     * made through this list. A change of this list not made through the
+     * view makes the view fail with {@link ConcurrentModificationException}.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IllegalArgumentException if an endpoint index is out of range
+     *         or fromIndex is greater than toIndex
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        lock.lock();
+        try {
+            Object[] current = data;
+            checkSubListRange(fromIndex, toIndex, current.length);
+            return new SubList(null, current, fromIndex, toIndex - fromIndex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes from this list all of the elements whose index is between
+     * fromIndex, inclusive, and toIndex, exclusive, with a single copy.
+     *
+     * @param fromIndex index of first element to be removed
+     * @param toIndex index after last element to be removed
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        write(list -> {
+            list.subList(fromIndex, toIndex).clear();
+            return null;
+        });
+    }
+
+    /**
+     * Applies a batch of edits to this list atomically, copying the array
+     * once for all of them. The edits receive a private working copy of
+     * the list which is published when they complete; readers see either
+     * none or all of the edits. The working copy must not be used after
+     * the edits return. If the edits throw, the list is left unchanged.
+     *
+     * @param edits the edits to be applied
+     * @throws NullPointerException if edits is null
+     */
+    public void mutate(Consumer<List<T>> edits) {
+        if (edits == null) throw new NullPointerException();
+        write(list -> {
+            edits.accept(list);
+            return null;
+        });
+    }
+
+    /**
+     * Returns a snapshot iterator over the elements in this list in
+     * proper sequence.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new SnapshotIterator<>(data, 0);
+    }
+
+    /**
+     * Returns a snapshot list iterator over the elements in this list,
+     * starting at the specified position.
+     *
+     * @param index index of the first element to be returned by next
+     * @return a list iterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        Object[] snapshot = data;
+        if (index > snapshot.length || index < 0) throw new IllegalArgumentException("invalid index");
+        return new SnapshotIterator<>(snapshot, index);
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the snapshot of this list.
+     *
+     * @return a {@code Spliterator} over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(data, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    /**
+     * Runs the write under the lock on a working copy of the array and
+     * publishes the copy afterwards.
+     *
+     * @param write the write to be applied
+     * @return the write's result
+     */
+    @SuppressWarnings("unchecked")
+    private <R> R write(Function<ArrayListImpl<T>, R> write) {
+        lock.lock();
+        try {
+            Object[] current = data;
+            ArrayListImpl<T> working = new ArrayListImpl<>(Arrays.copyOf(current, current.length));
+            R result = write.apply(working);
+            working.trimToSize();
+            data = working.elementData();
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void checkSubListRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IllegalArgumentException("invalid index");
+        }
+    }
+
+    private static int indexOf(Object o, Object[] snapshot) {
+        for (int i = 0; i < snapshot.length; i++) {
+            if (Objects.equals(o, snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Saves the state of this list to a stream: the size followed by
+     * the elements in proper sequence.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        Object[] snapshot = data;
+        s.writeInt(snapshot.length);
+        for (Object element : snapshot) {
+            s.writeObject(element);
+        }
+    }
+
+    /**
+     * Reconstitutes this list from a stream.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if the class of an element is not found
+     */
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        Object[] elements = new Object[s.readInt()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = s.readObject();
+        }
+        data = elements;
+    }
+
+    /**
+     * View of a range of the list. It remembers the array it was last
+     * in sync with; every operation takes the lock and fails if another
+     * array has been published since. Changes are applied through
+     * {@link #write(Function)} on the same range of the working copy, and
+     * then the size and expected array of all enclosing views are updated.
+     */
+    private class SubList extends AbstractList<T> implements RandomAccess {
+
+        private final SubList parent;
+
+        /**
+         * Index of the first element of the view in the array.
+         */
+        private final int offset;
+        private int size;
+        private Object[] expectedArray;
+
+        SubList(SubList parent, Object[] expectedArray, int offset, int size) {
+            this.parent = parent;
+            this.expectedArray = expectedArray;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            lock.lock();
+            try {
+                checkForComodification();
+                return size;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            lock.lock();
+            try {
+                checkForComodification();
+                if (index >= size || index < 0) throw new IllegalArgumentException("invalid index");
+                return (T) expectedArray[offset + index];
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public T set(int index, T element) {
+            return writeRange(range -> range.set(index, element));
+        }
+
+        @Override
+        public void add(int index, T element) {
+            writeRange(range -> {
+                range.add(index, element);
+                return null;
+            });
+        }
+
+        @Override
+        public T remove(int index) {
+            return writeRange(range -> range.remove(index));
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return writeRange(range -> range.remove(o));
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends T> c) {
+            return writeRange(range -> range.addAll(c));
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends T> c) {
+            return writeRange(range -> range.addAll(index, c));
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            writeRange(range -> {
+                range.subList(fromIndex, toIndex).clear();
+                return null;
+            });
+        }
+
+        @Override
+        public void clear() {
+            writeRange(range -> {
+                range.clear();
+                return null;
+            });
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super T> filter) {
+            if (filter == null) throw new NullPointerException();
+            return writeRange(range -> range.removeIf(filter));
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            if (c == null) throw new NullPointerException();
+            return removeIf(c::contains);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            if (c == null) throw new NullPointerException();
+            return removeIf(element -> !c.contains(element));
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<T> operator) {
+            if (operator == null) throw new NullPointerException();
+            writeRange(range -> {
+                range.replaceAll(operator);
+                return null;
+            });
+        }
+
+        @Override
+        public void sort(Comparator<? super T> c) {
+            writeRange(range -> {
+                range.sort(c);
+                return null;
+            });
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return listIterator(0);
+        }
+
+        /**
+         * Returns a snapshot list iterator over the elements of the view,
+         * which does not support modification.
+         */
+        @Override
+        public ListIterator<T> listIterator(int index) {
+            lock.lock();
+            try {
+                checkForComodification();
+                if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+                return new SnapshotIterator<>(Arrays.copyOfRange(expectedArray, offset, offset + size), index);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            lock.lock();
+            try {
+                checkForComodification();
+                checkSubListRange(fromIndex, toIndex, size);
+                return new SubList(this, expectedArray, offset + fromIndex, toIndex - fromIndex);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Applies the edit to the range of the view in a working copy of
+         * the list, publishes the copy and brings the view and all its
+         * enclosing views in sync with it.
+         */
+        private <R> R writeRange(Function<List<T>, R> edit) {
+            lock.lock();
+            try {
+                checkForComodification();
+                int[] newSize = new int[1];
+                R result = write(list -> {
+                    List<T> range = list.subList(offset, offset + size);
+                    R r = edit.apply(range);
+                    newSize[0] = range.size();
+                    return r;
+                });
+                int sizeChange = newSize[0] - size;
+                for (SubList view = this; view != null; view = view.parent) {
+                    view.size += sizeChange;
+                    view.expectedArray = data;
+                }
+                return result;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void checkForComodification() {
+            if (data != expectedArray) throw new ConcurrentModificationException();
+        }
+    }
+
+    private static class SnapshotIterator<T> implements ListIterator<T> {
+
+        private final Object[] snapshot;
+        private int cursor;
+
+        SnapshotIterator(Object[] snapshot, int index) {
+            this.snapshot = snapshot;
+            this.cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return (T) snapshot[cursor++];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            if (!hasPrevious()) throw new NoSuchElementException();
+            return (T) snapshot[--cursor];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(T t) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(T t) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
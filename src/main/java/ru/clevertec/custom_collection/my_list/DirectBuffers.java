@@ -0,0 +1,79 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Frees the native memory of direct buffers without waiting for the
+ * garbage collector.</p>
+ * <p>Java has no public API for it. On Java 9 and later the cleaner of the
+ * buffer is run by {@code sun.misc.Unsafe.invokeCleaner}, on Java 8 by
+ * {@code ((sun.nio.ch.DirectBuffer) buffer).cleaner().clean()}. Both are
+ * looked up reflectively once, so this class compiles against the Java 8
+ * API. If neither is accessible, freeing is left to the garbage
+ * collector.</p>
+ * @author  Olga Mailychko
+ * @see     OffHeapList
+ * @since   1.8
+ */
+final class DirectBuffers {
+
+    /**
+     * Runs the cleaner of a buffer, or {@code null} if it is not accessible.
+     */
+    private static final BufferCleaner CLEANER = cleaner();
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Frees the native memory of the specified buffer. Neither the buffer
+     * nor any view of it may be accessed afterwards.
+     *
+     * @param buffer a direct buffer returned by {@link ByteBuffer#allocateDirect}
+     * @return {@code true} if the memory was freed, {@code false} if it is
+     *         left to the garbage collector
+     */
+    static boolean free(ByteBuffer buffer) {
+        if (CLEANER == null || !buffer.isDirect()) {
+            return false;
+        }
+        try {
+            CLEANER.clean(buffer);
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static BufferCleaner cleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            return buffer -> invokeCleaner.invoke(unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // Java 8 has no invokeCleaner, the cleaner is reached through the buffer
+        }
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> {
+                Object bufferCleaner = cleaner.invoke(buffer);
+                if (bufferCleaner != null) {
+                    clean.invoke(bufferCleaner);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private interface BufferCleaner {
+
+        void clean(ByteBuffer buffer) throws ReflectiveOperationException;
+    }
+}
@@ -0,0 +1,115 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Fixed-width binary representation of list elements.</p>
+ * <p>Codecs are used by lists keeping their elements outside the Java
+ * heap. Every element occupies exactly {@link #width()} bytes, so an
+ * element's position in a buffer is computed from its index.</p>
+ * @param <T> the type of encoded elements
+ * @author  Olga Mailychko
+ * @see     OffHeapList
+ * @since   1.8
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Returns the number of bytes every encoded element occupies.
+     *
+     * @return the width of an encoded element in bytes
+     */
+    int width();
+
+    /**
+     * Writes the element into the buffer starting at the specified offset.
+     * Buffer's position and limit are not changed.
+     *
+     * @param element element to be encoded, never {@code null}
+     * @param target buffer the element is written to
+     * @param offset absolute offset of the first byte
+     */
+    void encode(T element, ByteBuffer target, int offset);
+
+    /**
+     * Reads the element stored in the buffer at the specified offset.
+     * Buffer's position and limit are not changed.
+     *
+     * @param source buffer the element is read from
+     * @param offset absolute offset of the first byte
+     * @return decoded element
+     */
+    T decode(ByteBuffer source, int offset);
+
+    /**
+     * Returns codec storing {@code Integer} elements in 4 bytes.
+     *
+     * @return codec for integers
+     */
+    static ElementCodec<Integer> ofInt() {
+        return new ElementCodec<Integer>() {
+            @Override
+            public int width() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void encode(Integer element, ByteBuffer target, int offset) {
+                target.putInt(offset, element);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer source, int offset) {
+                return source.getInt(offset);
+            }
+        };
+    }
+
+    /**
+     * Returns codec storing {@code Long} elements in 8 bytes.
+     *
+     * @return codec for longs
+     */
+    static ElementCodec<Long> ofLong() {
+        return new ElementCodec<Long>() {
+            @Override
+            public int width() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void encode(Long element, ByteBuffer target, int offset) {
+                target.putLong(offset, element);
+            }
+
+            @Override
+            public Long decode(ByteBuffer source, int offset) {
+                return source.getLong(offset);
+            }
+        };
+    }
+
+    /**
+     * Returns codec storing {@code Double} elements in 8 bytes.
+     *
+     * @return codec for doubles
+     */
+    static ElementCodec<Double> ofDouble() {
+        return new ElementCodec<Double>() {
+            @Override
+            public int width() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void encode(Double element, ByteBuffer target, int offset) {
+                target.putDouble(offset, element);
+            }
+
+            @Override
+            public Double decode(ByteBuffer source, int offset) {
+                return source.getDouble(offset);
+            }
+        };
+    }
+}
@@ -0,0 +1,333 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * <p>Array-backed implementation of the {@link List} interface keeping its
+ * free capacity as a movable gap at the position of the last edit.</p>
+ * <p>Inserting or removing an element moves the gap to the edit position,
+ * copying only the elements between the old and the new gap position.
+ * Edits clustered around a cursor therefore cost amortized constant time,
+ * unlike {@link ArrayListImpl} which shifts the whole tail on every
+ * insert or remove. Indexed access stays constant time.</p>
+ * @param <T> the type of elements in this list
+ * @author  Olga Mailychko
+ * @see     ArrayListImpl
+ * @since   1.8
+ */
+public class GapArrayListImpl<T> extends AbstractList<T>
+        implements List<T>, RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    /**
+     * Default initial capacity.
+     */
+    private static final int DEFAULT_INITIAL_CAPACITY = 10;
+
+    /**
+     * The array buffer holding the elements before and after the gap.
+     */
+    private Object[] data;
+
+    /**
+     * Index of the first free slot of the gap.
+     */
+    private int gapStart;
+
+    /**
+     * Index of the first element after the gap.
+     */
+    private int gapEnd;
+
+    /**
+     * The policy deciding the new capacity when the gap is exhausted.
+     */
+    private final GrowthStrategy growthStrategy;
+
+    /**
+     * Constructs an empty list with the DEFAULT_INITIAL_CAPACITY
+     */
+    public GapArrayListImpl() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param  initialCapacity  the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity
+     *         is negative
+     */
+    public GapArrayListImpl(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.defaultStrategy());
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity
+     * growing according to the specified strategy.
+     *
+     * @param  initialCapacity  the initial capacity of the list
+     * @param  growthStrategy  the policy used when the gap is exhausted
+     * @throws IllegalArgumentException if the specified initial capacity
+     *         is negative
+     * @throws NullPointerException if the specified strategy is null
+     */
+    public GapArrayListImpl(int initialCapacity, GrowthStrategy growthStrategy) {
+        if (growthStrategy == null) throw new NullPointerException();
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        this.data = new Object[initialCapacity];
+        this.gapEnd = initialCapacity;
+        this.growthStrategy = growthStrategy;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return data.length - gapLength();
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) data[position(index)];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with
+     * the specified element.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        checkIndex(index);
+        int position = position(index);
+        T old = (T) data[position];
+        data[position] = element;
+        return old;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param t element to be appended to this list
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(T t) {
+        add(size(), t);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this
+     * list. The gap is moved to the position first.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index > size() || index < 0) throw new IllegalArgumentException("invalid index");
+        modCount++;
+        moveGap(index);
+        if (gapStart == gapEnd) {
+            grow(data.length + 1);
+        }
+        data[gapStart++] = element;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * The gap is moved to the position first.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        checkIndex(index);
+        modCount++;
+        moveGap(index);
+        T old = (T) data[gapEnd];
+        data[gapEnd++] = null;
+        return old;
+    }
+
+    /**
+     * Removes all of the elements from this list. The capacity is kept.
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(data, 0, gapStart, null);
+        Arrays.fill(data, gapEnd, data.length, null);
+        gapStart = 0;
+        gapEnd = data.length;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < gapStart; i++) {
+            if (Objects.equals(o, data[i])) {
+                return i;
+            }
+        }
+        for (int i = gapEnd; i < data.length; i++) {
+            if (Objects.equals(o, data[i])) {
+                return i - gapLength();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = data.length - 1; i >= gapEnd; i--) {
+            if (Objects.equals(o, data[i])) {
+                return i - gapLength();
+            }
+        }
+        for (int i = gapStart - 1; i >= 0; i--) {
+            if (Objects.equals(o, data[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified element.
+     *
+     * @param o element whose presence in this list is to be tested
+     * @return {@code true} if this list contains the specified element
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list
+     * in proper sequence (from first to last element).
+     *
+     * @return an array containing all of the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        System.arraycopy(data, 0, array, 0, gapStart);
+        System.arraycopy(data, gapEnd, array, gapStart, data.length - gapEnd);
+        return array;
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure
+     * that it can hold at least the number of elements specified by
+     * the minimum capacity argument.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            resize(minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to be the list's current size,
+     * closing the gap.
+     */
+    public void trimToSize() {
+        if (gapStart != gapEnd) {
+            resize(size());
+        }
+    }
+
+    /**
+     * Moves the gap so that it starts at the specified index, copying the
+     * elements in between to the other side of the gap.
+     *
+     * @param index the new start of the gap
+     */
+    private void moveGap(int index) {
+        int gapLength = gapLength();
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(data, index, data, gapEnd - count, count);
+            Arrays.fill(data, index, Math.min(gapStart, index + gapLength), null);
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(data, gapEnd, data, gapStart, count);
+            Arrays.fill(data, Math.max(gapEnd, index), gapEnd + count, null);
+        }
+        gapStart = index;
+        gapEnd = index + gapLength;
+    }
+
+    /**
+     * Increases the capacity to ensure that it can hold at least the
+     * number of elements specified by the minCapacity argument.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        resize(growthStrategy.newCapacity(data.length, minCapacity));
+    }
+
+    /**
+     * Copies the elements into an array of the specified length, keeping
+     * the gap at its position.
+     *
+     * @param capacity the new capacity, not less than the size
+     */
+    private void resize(int capacity) {
+        Object[] resized = new Object[capacity];
+        int tail = data.length - gapEnd;
+        System.arraycopy(data, 0, resized, 0, gapStart);
+        System.arraycopy(data, gapEnd, resized, capacity - tail, tail);
+        data = resized;
+        gapEnd = capacity - tail;
+    }
+
+    private int gapLength() {
+        return gapEnd - gapStart;
+    }
+
+    private int position(int index) {
+        return index < gapStart ? index : index + gapLength();
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size() || index < 0) throw new IllegalArgumentException("invalid index");
+    }
+}
@@ -0,0 +1,98 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.io.Serializable;
+
+/**
+ * <p>Policy deciding how much an array-backed list grows when its
+ * capacity is exhausted.</p>
+ * <p>Strategies are passed to the list's constructor. The default one,
+ * {@link #factor(double) factor(1.5)}, gives amortized constant time
+ * appends.</p>
+ * @author  Olga Mailychko
+ * @see     ArrayListImpl
+ * @since   1.8
+ */
+@FunctionalInterface
+public interface GrowthStrategy extends Serializable {
+
+    /**
+     * Serialization version of this interface.
+     */
+    long serialVersionUID = 1L;
+
+    /**
+     * The maximum size of array to allocate. Some VMs reserve header
+     * words in an array, so requesting more may fail.
+     */
+    int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns the new capacity for an array of the current capacity
+     * which must be able to hold at least minCapacity elements.
+     *
+     * @param currentCapacity the current length of the array
+     * @param minCapacity the minimum required capacity
+     * @return new capacity, never less than minCapacity
+     */
+    int newCapacity(int currentCapacity, int minCapacity);
+
+    /**
+     * Returns strategy multiplying current capacity by the given factor.
+     *
+     * @param factor growth factor, must be greater than 1
+     * @return geometric growth strategy
+     * @throws IllegalArgumentException if factor is not greater than 1
+     */
+    static GrowthStrategy factor(double factor) {
+        if (!(factor > 1)) throw new IllegalArgumentException("Illegal factor: " + factor);
+        return (currentCapacity, minCapacity) -> {
+            long grown = (long) (currentCapacity * factor) + 1;
+            return (int) Math.max(minCapacity, Math.min(grown, MAX_ARRAY_SIZE));
+        };
+    }
+
+    /**
+     * Returns strategy appending a fixed number of slots on each growth.
+     *
+     * @param chunkSize number of slots added, must be positive
+     * @return fixed chunk growth strategy
+     * @throws IllegalArgumentException if chunkSize is not positive
+     */
+    static GrowthStrategy fixedChunk(int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+        return (currentCapacity, minCapacity) -> {
+            long grown = (long) currentCapacity + chunkSize;
+            return (int) Math.max(minCapacity, Math.min(grown, MAX_ARRAY_SIZE));
+        };
+    }
+
+    /**
+     * Returns strategy which grows as the delegate does but never exceeds
+     * the given maximum capacity.
+     *
+     * @param delegate strategy to be capped
+     * @param maxCapacity maximum capacity of the list
+     * @return capped growth strategy
+     * @throws IllegalArgumentException if maxCapacity is not positive
+     * @throws NullPointerException if delegate is null
+     */
+    static GrowthStrategy capped(GrowthStrategy delegate, int maxCapacity) {
+        if (delegate == null) throw new NullPointerException();
+        if (maxCapacity <= 0) throw new IllegalArgumentException("Illegal max capacity: " + maxCapacity);
+        return (currentCapacity, minCapacity) -> {
+            if (minCapacity > maxCapacity) {
+                throw new IllegalStateException("Capacity limit exceeded: " + maxCapacity);
+            }
+            return Math.min(delegate.newCapacity(currentCapacity, minCapacity), maxCapacity);
+        };
+    }
+
+    /**
+     * Returns the default strategy, growing capacity by half.
+     *
+     * @return default growth strategy
+     */
+    static GrowthStrategy defaultStrategy() {
+        return factor(1.5);
+    }
+}
@@ -0,0 +1,373 @@
+package ru.clevertec.custom_collection.my_list;
+
+import ru.clevertec.custom_collection.my_list.primitive.IntArrayList;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * <p>Array-backed implementation of the {@link List} interface with a side
+ * hash index from every element to the ascending positions it occupies.</p>
+ * <p>{@link #contains}, {@link #indexOf} and {@link #lastIndexOf} are a
+ * single hash lookup, and {@link #containsAll} costs O(m) for a collection
+ * of m elements. The index is updated on every change: appending, setting
+ * and removing the last element cost a hash lookup, while inserting or
+ * removing in the middle also renumbers the positions of all following
+ * elements, which costs O(n log k) for k occurrences per element instead
+ * of the O(n) array shift alone. Bulk removals and sorting rebuild the
+ * index once.</p>
+ * <p>The index costs memory: on a 64-bit JVM with compressed references
+ * every distinct element takes about 90 bytes (a hash map entry and table
+ * slot, and a position list holding one {@code int}), and every further
+ * occurrence 4 more bytes. For a list of distinct elements this is about
+ * twenty times the 4 bytes its backing array spends on a reference.
+ * Elements must not change their {@code hashCode} while in the list.</p>
+ * @param <T> the type of elements in this list
+ * @author  Olga Mailychko
+ * @see     ArrayListImpl
+ * @since   1.8
+ */
+public class HashIndexedList<T> extends AbstractList<T>
+        implements List<T>, RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The elements in proper sequence.
+     */
+    private final ArrayListImpl<T> elements;
+
+    /**
+     * Ascending positions of every element; rebuilt after deserialization.
+     */
+    private transient HashMap<Object, IntArrayList> positions;
+
+    /**
+     * Constructs an empty list.
+     */
+    public HashIndexedList() {
+        this.elements = new ArrayListImpl<>();
+        this.positions = new HashMap<>();
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified collection,
+     * in the order they are returned by the collection's iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list
+     * @throws NullPointerException if the specified collection is null
+     */
+    public HashIndexedList(Collection<? extends T> c) {
+        this.elements = new ArrayListImpl<>(c.size());
+        this.elements.addAll(c);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified element.
+     *
+     * @param o element whose presence in this list is to be tested
+     * @return {@code true} if this list contains the specified element
+     */
+    @Override
+    public boolean contains(Object o) {
+        return positions.containsKey(o);
+    }
+
+    /**
+     * Returns {@code true} if this list contains all of the elements
+     * of the specified collection.
+     *
+     * @param c collection to be checked for containment in this list
+     * @return {@code true} if this list contains all of the elements
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object element : c) {
+            if (!positions.containsKey(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int indexOf(Object o) {
+        IntArrayList occurrences = positions.get(o);
+        return occurrences == null ? -1 : occurrences.getInt(0);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        IntArrayList occurrences = positions.get(o);
+        return occurrences == null ? -1 : occurrences.getInt(occurrences.size() - 1);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     */
+    @Override
+    public T set(int index, T element) {
+        T old = elements.get(index);
+        elements.set(index, element);
+        unindex(old, index);
+        index(element, index);
+        return old;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param t element to be appended to this list
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(T t) {
+        elements.add(t);
+        index(t, elements.size() - 1);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list,
+     * renumbering the positions of the following elements.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    @Override
+    public void add(int index, T element) {
+        elements.add(index, element);
+        for (int i = elements.size() - 1; i > index; i--) {
+            shift(elements.get(i), i - 1, i);
+        }
+        index(element, index);
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified position in this list,
+     * renumbering the positions of the following elements.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     */
+    @Override
+    public T remove(int index) {
+        T old = elements.remove(index);
+        unindex(old, index);
+        for (int i = index; i < elements.size(); i++) {
+            shift(elements.get(i), i + 1, i);
+        }
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list,
+     * if it is present.
+     *
+     * @param o element to be removed from this list, if present
+     * @return {@code true} if this list contained the specified element
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given
+     * predicate, then rebuilds the index once.
+     *
+     * @param filter a predicate which returns {@code true} for elements
+     *               to be removed
+     * @return {@code true} if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (!elements.removeIf(filter)) {
+            return false;
+        }
+        rebuildIndex();
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes from this list all of its elements that are contained in the
+     * specified collection.
+     *
+     * @param c collection containing elements to be removed from this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the
+     * specified collection.
+     *
+     * @param c collection containing elements to be retained in this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified
+     * comparator, then rebuilds the index once.
+     *
+     * @param c the comparator used to compare list elements
+     */
+    @Override
+    public void sort(Comparator<? super T> c) {
+        elements.sort(c);
+        rebuildIndex();
+        modCount++;
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    @Override
+    public void clear() {
+        elements.clear();
+        positions.clear();
+        modCount++;
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list
+     * in proper sequence (from first to last element).
+     *
+     * @return an array containing all of the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        return elements.toArray();
+    }
+
+    /**
+     * Adds the position to the element's ascending positions.
+     */
+    private void index(T element, int position) {
+        IntArrayList occurrences = positions.get(element);
+        if (occurrences == null) {
+            occurrences = new IntArrayList(1);
+            positions.put(element, occurrences);
+        }
+        occurrences.addInt(-(search(occurrences, position) + 1), position);
+    }
+
+    /**
+     * Removes the position from the element's positions, dropping the
+     * element from the index when it has no positions left.
+     */
+    private void unindex(Object element, int position) {
+        IntArrayList occurrences = positions.get(element);
+        occurrences.removeIntAt(search(occurrences, position));
+        if (occurrences.size() == 0) {
+            positions.remove(element);
+        }
+    }
+
+    /**
+     * Replaces a position of the element with a neighbouring one. All
+     * positions between them are renumbered in the same pass, so the
+     * order of the element's positions is kept.
+     */
+    private void shift(Object element, int from, int to) {
+        IntArrayList occurrences = positions.get(element);
+        occurrences.setInt(search(occurrences, from), to);
+    }
+
+    /**
+     * Binary search of the position among ascending positions.
+     *
+     * @return index of the position, or {@code -(insertion point) - 1}
+     */
+    private static int search(IntArrayList occurrences, int position) {
+        int low = 0;
+        int high = occurrences.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int value = occurrences.getInt(middle);
+            if (value < position) {
+                low = middle + 1;
+            } else if (value > position) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void rebuildIndex() {
+        positions = new HashMap<>();
+        for (int i = 0; i < elements.size(); i++) {
+            positions.computeIfAbsent(elements.get(i), k -> new IntArrayList(1)).addInt(i);
+        }
+    }
+
+    /**
+     * Reconstitutes this list from a stream and rebuilds the index.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if the class of an element is not found
+     */
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        rebuildIndex();
+    }
+}
@@ -0,0 +1,549 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>Indexable skip list implementation of the {@link List} interface.</p>
+ * <p>Elements are kept in list order in a doubly linked chain of nodes.
+ * Every node is also linked on a random number of express levels, and
+ * every forward link carries its width, the number of elements it skips.
+ * A positional lookup goes down the levels summing the widths, so
+ * {@link #get}, {@link #set}, {@link #add(int, Object)} and
+ * {@link #remove(int)} cost O(log n) expected time, unlike the O(n) seek
+ * of {@link LinkedListImpl} and the O(n) shift of {@link ArrayListImpl}.
+ * Iterators walk the bottom chain and cost O(1) per element.</p>
+ * <p>A node is promoted to the next level with probability 1/4, so a node
+ * has 1.33 forward links on average.</p>
+ * @param <T> the type of elements in this list
+ * @author  Olga Mailychko
+ * @see     LinkedListImpl
+ * @since   1.8
+ */
+public class IndexableSkipList<T> extends AbstractList<T>
+        implements List<T>, Cloneable, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    /**
+     * Maximum number of levels, enough for Integer.MAX_VALUE elements.
+     */
+    private static final int MAX_LEVEL = 16;
+
+    /**
+     * Current size of the list.
+     */
+    private transient int size;
+
+    /**
+     * Number of levels in use, at least one.
+     */
+    private transient int level;
+
+    /**
+     * Sentinel node preceding the first element on every level.
+     */
+    private transient Node<T> head;
+
+    /**
+     * Pointer to last node, {@code null} if the list is empty.
+     */
+    private transient Node<T> tail;
+
+    /**
+     * Constructs an empty list.
+     */
+    public IndexableSkipList() {
+        this.head = new Node<>(null, MAX_LEVEL);
+        this.level = 1;
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified collection,
+     * in the order they are returned by the collection's iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list
+     * @throws NullPointerException if the specified collection is null
+     */
+    public IndexableSkipList(Collection<? extends T> c) {
+        this();
+        addAll(c);
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    public T get(int index) {
+        isValidIndex(index);
+        return nodeAt(index).element;
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     */
+    @Override
+    public T set(int index, T element) {
+        isValidIndex(index);
+        Node<T> node = nodeAt(index);
+        T old = node.element;
+        node.element = element;
+        return old;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param t element to be appended to this list
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(T t) {
+        insert(size, t);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Shifts the subsequent elements to the right.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        insert(index, element);
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     */
+    @Override
+    public T remove(int index) {
+        isValidIndex(index);
+        return delete(index);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0], index++) {
+            if (Objects.equals(o, node.element)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = size - 1;
+        for (Node<T> node = tail; node != null; node = node.previous, index--) {
+            if (Objects.equals(o, node.element)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(head.next, null);
+        Arrays.fill(head.width, 0);
+        tail = null;
+        size = 0;
+        level = 1;
+        modCount++;
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list
+     * in proper sequence (from first to last element).
+     *
+     * @return an array containing all of the elements in this list in
+     *         proper sequence
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0]) {
+            array[index++] = node.element;
+        }
+        return array;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, starting
+     * at the specified position. Moving the iterator costs O(1), while
+     * its {@code add} and {@code remove} cost O(log n) expected.
+     *
+     * @param index index of the first element to be returned by next
+     * @return a list iterator starting at the specified position
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        return new ListItr(index);
+    }
+
+    /**
+     * Returns a shallow copy of this list.
+     *
+     * @return a shallow copy of this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public IndexableSkipList<T> clone() {
+        IndexableSkipList<T> clone;
+        try {
+            clone = (IndexableSkipList<T>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        clone.head = new Node<>(null, MAX_LEVEL);
+        clone.tail = null;
+        clone.size = 0;
+        clone.level = 1;
+        clone.modCount = 0;
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0]) {
+            clone.add(node.element);
+        }
+        return clone;
+    }
+
+    private void isValidIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IllegalArgumentException("invalid index");
+        }
+    }
+
+    /**
+     * Returns the node at the specified position, counting the head as
+     * position 0 and the element at index i as position i + 1.
+     */
+    private Node<T> nodeAt(int index) {
+        Node<T> node = head;
+        int position = 0;
+        int target = index + 1;
+        for (int l = level - 1; l >= 0; l--) {
+            while (node.next[l] != null && position + node.width[l] <= target) {
+                position += node.width[l];
+                node = node.next[l];
+            }
+            if (position == target) {
+                break;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Finds on every level in use the last node before the specified
+     * position, and the position of that node.
+     *
+     * @param target position of the element, index + 1
+     * @param update receives the preceding node on every level
+     * @param rank receives the position of the preceding node on every level
+     */
+    private void findPredecessors(int target, Node<T>[] update, int[] rank) {
+        Node<T> node = head;
+        int position = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (node.next[l] != null && position + node.width[l] < target) {
+                position += node.width[l];
+                node = node.next[l];
+            }
+            update[l] = node;
+            rank[l] = position;
+        }
+    }
+
+    private void insert(int index, T element) {
+        Node<T>[] update = Node.newArray(MAX_LEVEL);
+        int[] rank = new int[MAX_LEVEL];
+        int target = index + 1;
+        findPredecessors(target, update, rank);
+        int nodeLevel = randomLevel();
+        for (int l = level; l < nodeLevel; l++) {
+            update[l] = head;
+            rank[l] = 0;
+        }
+        if (nodeLevel > level) {
+            level = nodeLevel;
+        }
+        Node<T> node = new Node<>(element, nodeLevel);
+        for (int l = 0; l < level; l++) {
+            Node<T> predecessor = update[l];
+            if (l < nodeLevel) {
+                Node<T> successor = predecessor.next[l];
+                if (successor != null) {
+                    node.width[l] = rank[l] + predecessor.width[l] + 1 - target;
+                }
+                node.next[l] = successor;
+                predecessor.next[l] = node;
+                predecessor.width[l] = target - rank[l];
+            } else if (predecessor.next[l] != null) {
+                predecessor.width[l]++;
+            }
+        }
+        Node<T> predecessor = update[0];
+        node.previous = predecessor == head ? null : predecessor;
+        if (node.next[0] == null) {
+            tail = node;
+        } else {
+            node.next[0].previous = node;
+        }
+        size++;
+        modCount++;
+    }
+
+    private T delete(int index) {
+        Node<T>[] update = Node.newArray(MAX_LEVEL);
+        int[] rank = new int[MAX_LEVEL];
+        findPredecessors(index + 1, update, rank);
+        Node<T> node = update[0].next[0];
+        for (int l = 0; l < level; l++) {
+            Node<T> predecessor = update[l];
+            if (predecessor.next[l] == node) {
+                predecessor.next[l] = node.next[l];
+                predecessor.width[l] = node.next[l] == null ? 0 : predecessor.width[l] + node.width[l] - 1;
+            } else if (predecessor.next[l] != null) {
+                predecessor.width[l]--;
+            }
+        }
+        if (node.next[0] == null) {
+            tail = node.previous;
+        } else {
+            node.next[0].previous = node.previous;
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        T element = node.element;
+        node.element = null;
+        node.previous = null;
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /**
+     * Returns a random number of levels for a new node, each level above
+     * the first being taken with probability 1/4.
+     */
+    private static int randomLevel() {
+        int random = ThreadLocalRandom.current().nextInt() | 1 << (2 * (MAX_LEVEL - 1));
+        return 1 + (Integer.numberOfTrailingZeros(random) >>> 1);
+    }
+
+    /**
+     * Saves the state of this list to a stream: the size followed by
+     * the elements in proper sequence.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        s.writeInt(size);
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0]) {
+            s.writeObject(node.element);
+        }
+    }
+
+    /**
+     * Reconstitutes this list from a stream.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if the class of an element is not found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        head = new Node<>(null, MAX_LEVEL);
+        level = 1;
+        int count = s.readInt();
+        for (int i = 0; i < count; i++) {
+            add((T) s.readObject());
+        }
+    }
+
+    private static class Node<T> {
+
+        T element;
+
+        /**
+         * Following node on every level of this node.
+         */
+        final Node<T>[] next;
+
+        /**
+         * Number of elements skipped by the link on every level; the
+         * width of a {@code null} link is not used.
+         */
+        final int[] width;
+
+        /**
+         * Preceding node on the bottom level, {@code null} for the first one.
+         */
+        Node<T> previous;
+
+        Node(T element, int level) {
+            this.element = element;
+            this.next = newArray(level);
+            this.width = new int[level];
+        }
+
+        /**
+         * Creates an array of nodes. Arrays of a generic type cannot be
+         * created directly; the cast is safe as the array only ever holds
+         * nodes of one list and never leaves it.
+         */
+        @SuppressWarnings("unchecked")
+        static <T> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node<?>[length];
+        }
+    }
+
+    /**
+     * List iterator walking the bottom level. Structural modifications
+     * go through the positional operations of the list.
+     */
+    private class ListItr implements ListIterator<T> {
+
+        /**
+         * Node holding the element returned by next, {@code null} at the end.
+         */
+        private Node<T> next;
+        private Node<T> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            nextIndex = index;
+            next = index == size ? null : nodeAt(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) throw new NoSuchElementException();
+            lastReturned = next;
+            next = next.next[0];
+            nextIndex++;
+            return lastReturned.element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) throw new NoSuchElementException();
+            next = next == null ? tail : next.previous;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) throw new IllegalStateException();
+            if (lastReturned == next) {
+                next = next.next[0];
+            } else {
+                nextIndex--;
+            }
+            delete(nextIndex);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T t) {
+            if (lastReturned == null) throw new IllegalStateException();
+            checkForComodification();
+            lastReturned.element = t;
+        }
+
+        @Override
+        public void add(T t) {
+            checkForComodification();
+            insert(nextIndex++, t);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package ru.clevertec.custom_collection.my_list;
 
-import ru.clevertec.custom_collection.exception.UnsupportedActionExcepton;
-
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
 /**
@@ -22,20 +25,48 @@ import java.util.function.UnaryOperator;
 public class LinkedListImpl<T> extends AbstractSequentialList<T>
         implements List<T>, Deque<T>, Cloneable, Serializable {
 
+    private static final long serialVersionUID = 1L;
     /**
      * Current size of the list.
      */
-    private int size;
+    private transient int size;
 
     /**
      * Pointer to first node.
      */
-    private Node<T> head;
+    private transient Node<T> head;
 
     /**
      * Pointer to last node.
      */
-    private Node<T> tail;
+    private transient Node<T> tail;
+
+    /**
+     * Node found by the last positional access together with its index,
+     * or {@code null} when unknown. Positional access starts from it when
+     * it is closer than either end, so sequential indexed access is
+     * amortized O(1). The pair is replaced as a whole so that concurrent
+     * readers never see a node with another node's index. Since reads move
+     * it, reads must not overlap writes. Changes at either end drop it
+     * rather than shift it, so queue use allocates nothing.
+     */
+    private transient Finger<T> finger;
+
+    /**
+     * Maximum number of unlinked nodes kept for reuse, 0 if nodes are
+     * not recycled.
+     */
+    private final int poolCapacity;
+
+    /**
+     * Free list of cleared nodes chained through previousNode.
+     */
+    private transient Node<T> pool;
+
+    /**
+     * Number of nodes in the pool.
+     */
+    private transient int pooled;
 
     /**
      * Returns the first element in this list.
@@ -59,8 +90,33 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
      * Constructs an empty list.
      */
     public LinkedListImpl() {
+        this(0);
     }
 
+    /**
+     * Constructs an empty list keeping up to poolCapacity unlinked nodes
+     * for reuse. Nodes removed one at a time, as by {@code poll},
+     * {@code pop} or {@code remove}, are cleared and linked again by the
+     * next insertions, so a list used as a queue or stack whose size
+     * stays within poolCapacity of its peak allocates nothing.
+     *
+     * @param poolCapacity maximum number of recycled nodes, 0 to disable
+     *                     recycling
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public LinkedListImpl(int poolCapacity) {
+        if (poolCapacity < 0) throw new IllegalArgumentException("Illegal pool capacity: " + poolCapacity);
+        this.poolCapacity = poolCapacity;
+    }
+
+    /**
+     * Returns the maximum number of unlinked nodes kept for reuse.
+     *
+     * @return the pool capacity, 0 if nodes are not recycled
+     */
+    int poolCapacity() {
+        return poolCapacity;
+    }
 
     /**
      * Inserts the specified element at the specified position in this list.
@@ -95,14 +151,31 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
         }
     }
 
+    /**
+     * Replaces each element of this list with the result of applying the
+     * operator to that element.
+     *
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException if the specified operator is null
+     */
     @Override
     public void replaceAll(UnaryOperator<T> operator) {
-        throw new UnsupportedActionExcepton();
+        replaceAllBetween(operator, null, null);
     }
 
+    /**
+     * Sorts this list according to the order induced by the specified
+     * comparator, or the natural order if it is {@code null}.
+     * <p>Bottom-up natural merge sort: every pass merges pairs of adjacent
+     * ascending runs by relinking the existing nodes, so the sort is stable,
+     * takes O(n log n) time, allocates nothing and finishes after a single
+     * pass over an already sorted list.</p>
+     *
+     * @param c the comparator used to compare list elements
+     */
     @Override
     public void sort(Comparator<? super T> c) {
-        throw new UnsupportedActionExcepton();
+        sortBetween(c, null, null);
     }
 
     /**
@@ -190,6 +263,21 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
         return -1;
     }
 
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = size - 1;
+        for (Node<T> node = tail; node != null; node = node.nextNode, index--) {
+            if (Objects.equals(o, node.element)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Removes the first occurrence of the specified element in this
      * list (when traversing the list from head to tail). If the list
@@ -257,13 +345,7 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
     @Override
     @SuppressWarnings("unchecked")
     public void addFirst(Object o) {
-        try {
-            Node<T> newNode = new Node<>((T) o);
-            newNode.setNextNode(head);
-            head = newNode;
-        } catch (Exception e){
-            throw new IllegalArgumentException();
-        }
+        insertNode(head, (T) o);
     }
 
     /**
@@ -276,13 +358,7 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
     @Override
     @SuppressWarnings("unchecked")
     public void addLast(Object o) {
-        try {
-            Node<T> newNode = new Node<>((T) o);
-            newNode.setPreviousNode(tail);
-            tail = newNode;
-        } catch (Exception e){
-            throw new IllegalArgumentException();
-        }
+        insertNode(null, (T) o);
     }
 
     /**
@@ -293,7 +369,8 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
      */
     @Override
     public T removeFirst() {
-        return remove(0);
+        if (head == null) throw new NoSuchElementException();
+        return deleteNode(head);
     }
 
     /**
@@ -304,7 +381,8 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
      */
     @Override
     public T removeLast() {
-        return remove(size - 1);
+        if (tail == null) throw new NoSuchElementException();
+        return deleteNode(tail);
     }
 
     /**
@@ -414,9 +492,7 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
      */
     @Override
     public T remove(int index) {
-        Node<T> node = getNode(index);
-        if (!deleteNode(node)) throw new NoSuchElementException();
-        return node.element;
+        return deleteNode(getNode(index));
     }
 
     /**
@@ -450,22 +526,80 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
      */
     @Override
     public Iterator<T> iterator() {
-        return new IteratorImpl();
+        return new ListItr(0);
     }
 
+    /**
+     * Returns an iterator over the elements in this list in reverse
+     * sequential order.
+     *
+     * @return an iterator over the elements in this list in reverse sequence
+     */
     @Override
-    public Iterator descendingIterator() {
-        throw new UnsupportedActionExcepton();
+    public Iterator<T> descendingIterator() {
+        ListItr iterator = new ListItr(size);
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public T next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
     }
 
+    /**
+     * Returns a fail-fast list iterator over the elements in this list,
+     * starting at the specified position. Its {@code add}, {@code remove}
+     * and {@code set} work in constant time at the cursor.
+     *
+     * @param index index of the first element to be returned by next
+     * @return a list iterator starting at the specified position
+     */
     @Override
     public ListIterator<T> listIterator(int index) {
-        throw new UnsupportedActionExcepton();
+        if (index > size || index < 0) throw new IllegalArgumentException();
+        return new ListItr(index);
     }
 
+    /**
+     * Removes all of the elements from this list, unlinking every node.
+     */
+    @Override
+    public void clear() {
+        Node<T> node = head;
+        while (node != null) {
+            Node<T> next = node.previousNode;
+            node.element = null;
+            node.nextNode = null;
+            node.previousNode = null;
+            node = next;
+        }
+        head = tail = null;
+        finger = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Creates a late-binding and fail-fast {@link Spliterator} over the
+     * elements in this list. Splitting copies growing batches of elements
+     * into arrays while walking the node chain, so parallel streams get
+     * array-backed chunks to work on.
+     *
+     * @return a {@code Spliterator} over the elements in this list
+     */
     @Override
     public Spliterator<T> spliterator() {
-        throw new UnsupportedActionExcepton();
+        return new NodeSpliterator();
     }
 
     /**
@@ -488,11 +622,7 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
      */
     @Override
     public boolean offerFirst(Object o) {
-        try {
-            addFirst(o);
-        } catch (IllegalArgumentException e){
-            return false;
-        }
+        addFirst(o);
         return true;
     }
 
@@ -504,11 +634,7 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
      */
     @Override
     public boolean offerLast(Object o) {
-        try {
-            addLast(o);
-        } catch (IllegalArgumentException e){
-            return false;
-        }
+        addLast(o);
         return true;
     }
 
@@ -521,49 +647,43 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
      */
     @Override
     public T pollFirst() {
-        T removed;
-        try{
-            removed = remove(0) ;
-        } catch (IllegalArgumentException e){
-            return null;
-        }
-        return removed;
+        return head == null ? null : deleteNode(head);
     }
 
     /**
-     * Retrieves and removes the last element of this list.
+     * Retrieves and removes the last element of this list,
+     * or returns {@code null} if this list is empty.
      *
-     * @return the last element of this list.
+     * @return the last element of this list, or {@code null} if
+     * this list is empty
      */
     @Override
     public T pollLast() {
-        T removed;
-        try{
-            removed = remove(size - 1) ;
-        } catch (IllegalArgumentException e){
-            return null;
-        }
-        return removed;
+        return tail == null ? null : deleteNode(tail);
     }
 
     /**
-     * Retrieves, but does not remove, the first element of this list.
+     * Retrieves, but does not remove, the first element of this list,
+     * or returns {@code null} if this list is empty.
      *
-     * @return the first element of this list
+     * @return the first element of this list, or {@code null} if
+     * this list is empty
      */
     @Override
     public T peekFirst() {
-        return head.element;
+        return head == null ? null : head.element;
     }
 
     /**
-     * Retrieves, but does not remove, the last element of this list.
+     * Retrieves, but does not remove, the last element of this list,
+     * or returns {@code null} if this list is empty.
      *
-     * @return the last element of this list.
+     * @return the last element of this list, or {@code null} if
+     * this list is empty
      */
     @Override
     public T peekLast() {
-        return tail.element;
+        return tail == null ? null : tail.element;
     }
 
     /**
@@ -574,35 +694,30 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
      */
     @Override
     public boolean offer(T o) {
-        try{
-            add(o);
-        } catch (IllegalArgumentException e){
-            return false;
-        }
-        return true;
+        return offerLast(o);
     }
 
 
     /**
-     * Retrieves and removes the head (first element) of this list.
+     * Retrieves and removes the head (first element) of this list,
+     * or returns {@code null} if this list is empty.
      *
-     * @return the head of this list
+     * @return the head of this list, or {@code null} if this list is empty
      */
     @Override
     public T poll() {
-        Node<T> oldHead = head;
-        remove(head);
-        return oldHead.element;
+        return pollFirst();
     }
 
     /**
-     * Retrieves, but does not remove, the head (first element) of this list.
+     * Retrieves, but does not remove, the head (first element) of this list,
+     * or returns {@code null} if this list is empty.
      *
-     * @return the head of this list
+     * @return the head of this list, or {@code null} if this list is empty
      */
     @Override
     public T peek() {
-        return head.element;
+        return peekFirst();
     }
 
     /**
@@ -630,7 +745,7 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
      */
     @Override
     public T pop() {
-        return removeLast();
+        return removeFirst();
     }
 
 //    @Override
@@ -653,63 +768,339 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
 //        throw new ListException("Unsupported operation");
 //    }
 //
-//    @Override
-//    public void clear() {
-//        throw new ListException("Unsupported operation");
-//    }
-//
-//    @Override
-//    public int lastIndexOf(Object o) {
-//        throw new ListException("Unsupported operation");
-//    }
-//
-//    @Override
-//    public ListIterator<T> listIterator() {
-//        throw new ListException("Unsupported operation");
-//    }
-//
-//    @Override
-//    public ListIterator<T> listIterator(int index) {
-//        throw new ListException("Unsupported operation");
-//    }
-//
-//    @Override
-//    public List<T> subList(int fromIndex, int toIndex) {
-//        throw new ListException("Unsupported operation");
-//    }
+    /**
+     * Returns a view of the portion of this list between the specified
+     * fromIndex, inclusive, and toIndex, exclusive. The view is bounded
+     * by the nodes just outside the range, so creating it copies nothing,
+     * and its bulk operations such as {@code clear}, {@code sort},
+     * {@code replaceAll} and {@code indexOf} walk and relink the nodes of
+     * the range directly. Views of views are views of this list too. A
+     * structural change of this list not made through the view makes the
+     * view fail with {@link ConcurrentModificationException}.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IllegalArgumentException if an endpoint index is out of range
+     *         or fromIndex is greater than toIndex
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) throw new IllegalArgumentException();
+        Node<T> before = fromIndex == 0 ? null : getNode(fromIndex - 1);
+        Node<T> after = toIndex == size ? null : getNode(toIndex);
+        return new SubList(null, before, after, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Removes from this list all of the elements whose index is between
+     * fromIndex, inclusive, and toIndex, exclusive, relinking the nodes
+     * around the range once.
+     *
+     * @param fromIndex index of first element to be removed
+     * @param toIndex index after last element to be removed
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) throw new IllegalArgumentException();
+        if (fromIndex == toIndex) {
+            return;
+        }
+        Node<T> before = fromIndex == 0 ? null : getNode(fromIndex - 1);
+        Node<T> after = toIndex == size ? null : getNode(toIndex);
+        unlinkBetween(before, after, fromIndex, toIndex - fromIndex);
+    }
 
     private void insertNode(int index, T element) {
+        if (index > size || index < 0) throw new IllegalArgumentException();
+        insertNode(index == size ? null : getNode(index), element);
+    }
+
+    /**
+     * Links a new node holding the element in front of the specified
+     * node, or at the end of the list if the node is {@code null}.
+     *
+     * @param successor node to follow the new one, or {@code null}
+     * @param element element to be inserted
+     */
+    private void insertNode(Node<T> successor, T element) {
+        if (finger != null && successor != null) {
+            if (successor == finger.node && successor != head) {
+                finger = new Finger<>(successor, finger.index + 1);
+            } else {
+                finger = null;
+            }
+        }
+        Node<T> predecessor = successor == null ? tail : successor.nextNode;
+        Node<T> newNode = newNode(predecessor, successor, element);
+        if (successor == null) {
+            tail = newNode;
+        } else {
+            successor.nextNode = newNode;
+        }
+        if (predecessor == null) {
+            head = newNode;
+        } else {
+            predecessor.previousNode = newNode;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Returns the first node after the specified one, or the head if the
+     * node is {@code null}.
+     */
+    private Node<T> firstAfter(Node<T> before) {
+        return before == null ? head : before.previousNode;
+    }
+
+    /**
+     * Returns the last node before the specified one, or the tail if the
+     * node is {@code null}.
+     */
+    private Node<T> lastBefore(Node<T> after) {
+        return after == null ? tail : after.nextNode;
+    }
+
+    /**
+     * Replaces each element of the nodes between the specified ones with
+     * the result of applying the operator to that element.
+     *
+     * @param operator the operator to apply to each element
+     * @param before node preceding the range, or {@code null} for the head
+     * @param after node following the range, or {@code null} for the tail
+     */
+    private void replaceAllBetween(UnaryOperator<T> operator, Node<T> before, Node<T> after) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        for (Node<T> node = firstAfter(before); node != after && modCount == expectedModCount;
+             node = node.previousNode) {
+            node.element = operator.apply(node.element);
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        modCount++;
+    }
+
+    /**
+     * Sorts the nodes between the specified ones. The range is cut out and
+     * temporarily made the whole chain, sorted by merge passes, and linked
+     * back between its neighbours even if the comparator throws. The list
+     * counts as modified before any node is relinked, so open iterators
+     * fail fast even after a failed sort.
+     *
+     * @param c the comparator used to compare list elements
+     * @param before node preceding the range, or {@code null} for the head
+     * @param after node following the range, or {@code null} for the tail
+     */
+    @SuppressWarnings("unchecked")
+    private void sortBetween(Comparator<? super T> c, Node<T> before, Node<T> after) {
+        Comparator<? super T> comparator = c != null ? c : (Comparator<? super T>) Comparator.naturalOrder();
+        modCount++;
+        Node<T> first = firstAfter(before);
+        Node<T> last = lastBefore(after);
+        if (first != after && first != last) {
+            Node<T> listHead = head;
+            Node<T> listTail = tail;
+            finger = null;
+            head = first;
+            last.previousNode = null;
+            try {
+                while (mergePass(comparator)) {
+                    // each pass halves the number of runs
+                }
+            } finally {
+                relinkBackward();
+                head.nextNode = before;
+                tail.previousNode = after;
+                if (before == null) {
+                    listHead = head;
+                } else {
+                    before.previousNode = head;
+                }
+                if (after == null) {
+                    listTail = tail;
+                } else {
+                    after.nextNode = tail;
+                }
+                head = listHead;
+                tail = listTail;
+            }
+        }
+    }
+
+    /**
+     * Unlinks and clears the nodes between the specified ones.
+     *
+     * @param before node preceding the range, or {@code null} for the head
+     * @param after node following the range, or {@code null} for the tail
+     * @param fromIndex index of the first unlinked node
+     * @param count number of nodes in the range
+     */
+    private void unlinkBetween(Node<T> before, Node<T> after, int fromIndex, int count) {
+        Node<T> node = firstAfter(before);
+        while (node != after) {
+            Node<T> next = node.previousNode;
+            node.element = null;
+            node.nextNode = null;
+            node.previousNode = null;
+            node = next;
+        }
+        if (before == null) {
+            head = after;
+        } else {
+            before.previousNode = after;
+        }
+        if (after == null) {
+            tail = before;
+        } else {
+            after.nextNode = before;
+        }
+        if (finger != null) {
+            if (finger.index >= fromIndex + count) {
+                finger = new Finger<>(finger.node, finger.index - count);
+            } else if (finger.index >= fromIndex) {
+                finger = null;
+            }
+        }
+        size -= count;
+        modCount++;
+    }
+
+    /**
+     * Merges each pair of adjacent ascending runs of the chain following
+     * the forward links only. If the comparator throws, the unmerged parts
+     * are linked back behind the merged ones so that no node is lost.
+     *
+     * @param c the comparator used to compare list elements
+     * @return {@code true} if the list consisted of more than one run
+     */
+    private boolean mergePass(Comparator<? super T> c) {
+        Node<T> rest = head;
+        Node<T> last = null;
+        Node<T> left = null;
+        Node<T> leftEnd = null;
+        Node<T> right = null;
+        Node<T> rightEnd = null;
+        boolean cut = false;
+        boolean merged = false;
+        boolean completed = false;
         try {
-            if (index == size) {
-                Node<T> lastNode = tail;
-                Node<T> newNode = new Node<>(lastNode, null, element);
-                tail = newNode;
-                if (lastNode == null) {
-                    head = newNode;
+            while (rest != null) {
+                left = rest;
+                leftEnd = endOfRun(left, c);
+                right = leftEnd.previousNode;
+                if (right == null) {
+                    linkForward(last, left);
+                    last = leftEnd;
+                    break;
+                }
+                rightEnd = endOfRun(right, c);
+                rest = rightEnd.previousNode;
+                leftEnd.previousNode = null;
+                rightEnd.previousNode = null;
+                cut = true;
+                while (left != null && right != null) {
+                    if (c.compare(right.element, left.element) < 0) {
+                        last = linkForward(last, right);
+                        right = right.previousNode;
+                    } else {
+                        last = linkForward(last, left);
+                        left = left.previousNode;
+                    }
+                }
+                if (left != null) {
+                    last.previousNode = left;
+                    last = leftEnd;
                 } else {
-                    lastNode.previousNode = newNode;
+                    last.previousNode = right;
+                    last = rightEnd;
                 }
-            } else {
-                Node<T> indexNode = getNode(index);
-                Node<T> prevNode = indexNode.nextNode;
-                Node<T> newNode = new Node<>(prevNode, indexNode, element);
-                indexNode.nextNode = newNode;
-                if (prevNode == null) {
-                    head = newNode;
+                cut = false;
+                merged = true;
+            }
+            last.previousNode = null;
+            completed = true;
+        } finally {
+            if (!completed) {
+                if (!cut) {
+                    linkForward(last, left);
                 } else {
-                    prevNode.previousNode = newNode;
+                    if (left != null) {
+                        linkForward(last, left);
+                        last = leftEnd;
+                    }
+                    if (right != null) {
+                        linkForward(last, right);
+                        last = rightEnd;
+                    }
+                    last.previousNode = rest;
                 }
             }
-            size++;
-        } catch (Exception e){
-            throw new IllegalArgumentException();
         }
+        return merged;
+    }
+
+    /**
+     * Returns the last node of the ascending run starting at the specified
+     * node. Equal elements continue the run, which keeps the sort stable.
+     */
+    private Node<T> endOfRun(Node<T> node, Comparator<? super T> c) {
+        while (node.previousNode != null && c.compare(node.element, node.previousNode.element) <= 0) {
+            node = node.previousNode;
+        }
+        return node;
+    }
+
+    /**
+     * Links the node after the specified last node of the forward chain,
+     * or makes it the head if there is no last node.
+     *
+     * @return the linked node
+     */
+    private Node<T> linkForward(Node<T> last, Node<T> node) {
+        if (last == null) {
+            head = node;
+        } else {
+            last.previousNode = node;
+        }
+        return node;
+    }
+
+    /**
+     * Restores the backward links and the tail from the forward links.
+     */
+    private void relinkBackward() {
+        Node<T> predecessor = null;
+        for (Node<T> node = head; node != null; node = node.previousNode) {
+            node.nextNode = predecessor;
+            predecessor = node;
+        }
+        tail = predecessor;
     }
 
+    /**
+     * Returns the node at the specified index, walking from the head, the
+     * tail or the finger, whichever is closest, and moves the finger to it.
+     *
+     * @param index index of the node
+     * @return the node at the specified index
+     */
     private Node<T> getNode(int index) {
         isValidIndex(index);
         Node<T> node;
-        if (size / 2 > index) {
+        Finger<T> start = finger;
+        int fromTail = size - 1 - index;
+        int fromFinger = start == null ? Integer.MAX_VALUE : Math.abs(index - start.index);
+        if (fromFinger < index && fromFinger < fromTail) {
+            node = start.node;
+            for (int i = start.index; i < index; i++) {
+                node = node.previousNode;
+            }
+            for (int i = start.index; i > index; i--) {
+                node = node.nextNode;
+            }
+        } else if (index <= fromTail) {
             node = head;
             for (int i = 0; i < index; i++) {
                 node = node.previousNode;
@@ -720,6 +1111,12 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
                 node = node.nextNode;
             }
         }
+        if (ListMetrics.ENABLED) {
+            ListMetrics.recordTraversal(Math.min(Math.min(index, fromTail), fromFinger));
+        }
+        if (fromFinger != 0) {
+            finger = new Finger<>(node, index);
+        }
         return node;
     }
 
@@ -729,24 +1126,129 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
         }
     }
 
-    private boolean deleteNode(Node<T> node) {
-        if (node.nextNode == null && node.previousNode == null) return false;
+    /**
+     * Unlinks the specified node from the list and clears it.
+     *
+     * @param node node to be unlinked
+     * @return the element the node held
+     */
+    private T deleteNode(Node<T> node) {
         Node<T> prevElement = node.nextNode;
         Node<T> nextElement = node.previousNode;
-        if (prevElement != null) {
-            prevElement.previousNode = nextElement;
-            if (prevElement.previousNode == null) {
-                tail = prevElement;
+        if (finger != null) {
+            if (node == finger.node) {
+                finger = node == head || node == tail ? null : new Finger<>(nextElement, finger.index);
+            } else if (node != tail) {
+                finger = null;
             }
         }
-        if (nextElement != null) {
+        if (prevElement == null) {
+            head = nextElement;
+        } else {
+            prevElement.previousNode = nextElement;
+        }
+        if (nextElement == null) {
+            tail = prevElement;
+        } else {
             nextElement.nextNode = prevElement;
-            if (nextElement.nextNode == null) {
-                head = nextElement;
-            }
         }
+        T element = node.element;
+        node.element = null;
+        node.nextNode = null;
+        node.previousNode = null;
+        recycle(node);
         size--;
-        return true;
+        modCount++;
+        return element;
+    }
+
+    /**
+     * Returns a node linked to the specified neighbours, taken from the
+     * pool if it is not empty.
+     *
+     * @param predecessor node before the new one, or {@code null}
+     * @param successor node after the new one, or {@code null}
+     * @param element element of the new node
+     * @return the new node
+     */
+    private Node<T> newNode(Node<T> predecessor, Node<T> successor, T element) {
+        Node<T> node = pool;
+        if (node == null) {
+            return new Node<>(predecessor, successor, element);
+        }
+        pool = node.previousNode;
+        pooled--;
+        node.element = element;
+        node.nextNode = predecessor;
+        node.previousNode = successor;
+        return node;
+    }
+
+    /**
+     * Puts a cleared node into the pool unless the pool is full.
+     *
+     * @param node unlinked node holding no references
+     */
+    private void recycle(Node<T> node) {
+        if (pooled < poolCapacity) {
+            node.previousNode = pool;
+            pool = node;
+            pooled++;
+        }
+    }
+
+    /**
+     * Saves the state of this list to a stream: the pool capacity and
+     * the size followed by the elements in proper sequence. The nodes are
+     * walked iteratively, so the stream depth does not grow with the list.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        int expectedModCount = modCount;
+        s.defaultWriteObject();
+        s.writeInt(size);
+        for (Node<T> node = head; node != null; node = node.previousNode) {
+            s.writeObject(node.element);
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Reconstitutes this list from a stream.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if the class of an element is not found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        if (poolCapacity < 0) {
+            throw new InvalidObjectException("Illegal pool capacity: " + poolCapacity);
+        }
+        int count = s.readInt();
+        if (count < 0) {
+            throw new InvalidObjectException("Illegal size: " + count);
+        }
+        for (int i = 0; i < count; i++) {
+            insertNode((Node<T>) null, (T) s.readObject());
+        }
+    }
+
+    /**
+     * Immutable pair of a node and its index, cached by positional access.
+     */
+    private static final class Finger<T> {
+
+        final Node<T> node;
+        final int index;
+
+        Finger(Node<T> node, int index) {
+            this.node = node;
+            this.index = index;
+        }
     }
 
     private static class Node<T> {
@@ -781,54 +1283,419 @@ public class LinkedListImpl<T> extends AbstractSequentialList<T>
             return nextNode;
         }
 
-        public void setNextNode(Node<T> nextNode) {
-            if (this.nextNode == null) {
-                this.nextNode = nextNode;
-            } else {
-                Node<T> oldNext = this.nextNode;
-                this.nextNode = nextNode;
-                this.nextNode.nextNode = oldNext;
-                this.nextNode.previousNode = this;
-                oldNext.previousNode = this.nextNode;
+        public Node getPreviousNode() {
+            return previousNode;
+        }
+    }
+
+    /**
+     * Spliterator walking the node chain. It is bound to the list's
+     * head and size on first use.
+     */
+    private class NodeSpliterator implements Spliterator<T> {
+
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<T> current;
+        private int est = -1;
+        private int expectedModCount;
+        private int batch;
+
+        private int getEst() {
+            if (est < 0) {
+                expectedModCount = modCount;
+                current = head;
+                est = size;
             }
+            return est;
         }
 
-        public Node getPreviousNode() {
-            return previousNode;
+        @Override
+        public Spliterator<T> trySplit() {
+            int s = getEst();
+            Node<T> node = current;
+            if (s > 1 && node != null) {
+                int n = Math.min(Math.min(batch + BATCH_UNIT, s), MAX_BATCH);
+                Object[] array = new Object[n];
+                int j = 0;
+                do {
+                    array[j++] = node.element;
+                    node = node.previousNode;
+                } while (node != null && j < n);
+                current = node;
+                batch = j;
+                est = s - j;
+                return Spliterators.spliterator(array, 0, j, Spliterator.ORDERED);
+            }
+            return null;
         }
 
-        public void setPreviousNode(Node<T> previousNode) {
-            if (this.previousNode == null) {
-                this.previousNode = previousNode;
-            } else {
-                Node<T> oldPrev = this.previousNode;
-                this.previousNode = previousNode;
-                this.previousNode.previousNode = oldPrev;
-                this.previousNode.nextNode = this;
-                oldPrev.nextNode = this.previousNode;
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) throw new NullPointerException();
+            Node<T> node;
+            if (getEst() > 0 && (node = current) != null) {
+                est--;
+                current = node.previousNode;
+                action.accept(node.element);
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
             }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) throw new NullPointerException();
+            int n = getEst();
+            Node<T> node = current;
+            current = null;
+            est = 0;
+            while (node != null && n-- > 0) {
+                action.accept(node.element);
+                node = node.previousNode;
+            }
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getEst();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
         }
     }
 
-    private class IteratorImpl implements Iterator<T> {
+    private class ListItr implements ListIterator<T> {
+
+        private Node<T> lastReturned;
+        private Node<T> next;
+        private int nextIndex;
+        private int expectedModCount = modCount;
 
-        private Node<T> currentNode = head;
+        ListItr(int index) {
+            next = (index == size) ? null : getNode(index);
+            nextIndex = index;
+        }
 
         @Override
         public boolean hasNext() {
-            return currentNode != null;
+            return nextIndex < size;
         }
 
         @Override
         public T next() {
-            if (hasNext()) {
-                T element = currentNode.element;
-                currentNode = currentNode.previousNode;
-                return element;
+            checkForComodification();
+            if (!hasNext()) throw new NoSuchElementException();
+            lastReturned = next;
+            next = next.previousNode;
+            nextIndex++;
+            return lastReturned.element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) throw new NoSuchElementException();
+            lastReturned = next = (next == null) ? tail : next.nextNode;
+            nextIndex--;
+            return lastReturned.element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) throw new IllegalStateException();
+            Node<T> lastNext = lastReturned.previousNode;
+            deleteNode(lastReturned);
+            if (next == lastReturned) {
+                next = lastNext;
             } else {
-                throw new NoSuchElementException();
+                nextIndex--;
             }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T t) {
+            if (lastReturned == null) throw new IllegalStateException();
+            checkForComodification();
+            lastReturned.element = t;
+        }
+
+        @Override
+        public void add(T t) {
+            checkForComodification();
+            lastReturned = null;
+            insertNode(next, t);
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
         }
     }
 
+    /**
+     * View of the nodes between two boundary nodes outside the range. The
+     * boundaries and the index of the first node stay valid while the list
+     * is changed only through the view, so positional access goes through
+     * the list's finger and bulk operations walk the range between the
+     * boundaries. Size and modCount are updated together with those of all
+     * enclosing views on every change made through it.
+     */
+    private class SubList extends AbstractList<T> {
+
+        private final SubList parent;
+
+        /**
+         * Node preceding the range, or {@code null} if it starts at the head.
+         */
+        private final Node<T> before;
+
+        /**
+         * Node following the range, or {@code null} if it ends at the tail.
+         */
+        private final Node<T> after;
+
+        /**
+         * Index of the first node of the range in the list.
+         */
+        private final int offset;
+        private int size;
+
+        SubList(SubList parent, Node<T> before, Node<T> after, int offset, int size) {
+            this.parent = parent;
+            this.before = before;
+            this.after = after;
+            this.offset = offset;
+            this.size = size;
+            this.modCount = LinkedListImpl.this.modCount;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public T get(int index) {
+            checkIndex(index);
+            checkForComodification();
+            return getNode(offset + index).element;
+        }
+
+        @Override
+        public T set(int index, T element) {
+            checkIndex(index);
+            checkForComodification();
+            Node<T> node = getNode(offset + index);
+            T old = node.element;
+            node.element = element;
+            return old;
+        }
+
+        @Override
+        public void add(int index, T element) {
+            checkPositionIndex(index);
+            checkForComodification();
+            insertNode(index == size ? after : getNode(offset + index), element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public T remove(int index) {
+            checkIndex(index);
+            checkForComodification();
+            T old = deleteNode(getNode(offset + index));
+            updateSizeAndModCount(-1);
+            return old;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            if (fromIndex == toIndex) {
+                return;
+            }
+            Node<T> from = fromIndex == 0 ? before : getNode(offset + fromIndex - 1);
+            Node<T> to = toIndex == size ? after : getNode(offset + toIndex);
+            unlinkBetween(from, to, offset + fromIndex, toIndex - fromIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        @Override
+        public void clear() {
+            removeRange(0, size);
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<T> operator) {
+            checkForComodification();
+            replaceAllBetween(operator, before, after);
+            updateSizeAndModCount(0);
+        }
+
+        @Override
+        public void sort(Comparator<? super T> c) {
+            checkForComodification();
+            try {
+                sortBetween(c, before, after);
+            } finally {
+                updateSizeAndModCount(0);
+            }
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            checkForComodification();
+            int index = 0;
+            for (Node<T> node = firstAfter(before); node != after; node = node.previousNode, index++) {
+                if (Objects.equals(o, node.element)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            checkForComodification();
+            int index = size - 1;
+            for (Node<T> node = lastBefore(after); node != before; node = node.nextNode, index--) {
+                if (Objects.equals(o, node.element)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            Object[] array = new Object[size];
+            int index = 0;
+            for (Node<T> node = firstAfter(before); node != after; node = node.previousNode) {
+                array[index++] = node.element;
+            }
+            return array;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<T> listIterator(int index) {
+            checkPositionIndex(index);
+            checkForComodification();
+            ListItr iterator = new ListItr(offset + index);
+            return new ListIterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return nextIndex() < size;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    return iterator.next();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return previousIndex() >= 0;
+                }
+
+                @Override
+                public T previous() {
+                    if (!hasPrevious()) throw new NoSuchElementException();
+                    return iterator.previous();
+                }
+
+                @Override
+                public int nextIndex() {
+                    return iterator.nextIndex() - offset;
+                }
+
+                @Override
+                public int previousIndex() {
+                    return iterator.previousIndex() - offset;
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    updateSizeAndModCount(-1);
+                }
+
+                @Override
+                public void set(T t) {
+                    iterator.set(t);
+                }
+
+                @Override
+                public void add(T t) {
+                    iterator.add(t);
+                    updateSizeAndModCount(1);
+                }
+            };
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) throw new IllegalArgumentException();
+            checkForComodification();
+            Node<T> from = fromIndex == 0 ? before : getNode(offset + fromIndex - 1);
+            Node<T> to = toIndex == size ? after : getNode(offset + toIndex);
+            return new SubList(this, from, to, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        private void updateSizeAndModCount(int sizeChange) {
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += sizeChange;
+                view.modCount = LinkedListImpl.this.modCount;
+            }
+        }
+
+        private void checkIndex(int index) {
+            if (index >= size || index < 0) throw new IllegalArgumentException();
+        }
+
+        private void checkPositionIndex(int index) {
+            if (index > size || index < 0) throw new IllegalArgumentException();
+        }
+
+        private void checkForComodification() {
+            if (LinkedListImpl.this.modCount != modCount) throw new ConcurrentModificationException();
+        }
+    }
 }
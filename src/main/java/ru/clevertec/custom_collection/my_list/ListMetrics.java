@@ -0,0 +1,277 @@
+package ru.clevertec.custom_collection.my_list;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Opt-in counters of the costly internal operations of the lists:
+ * reallocations of the array buffer in {@link ArrayListImpl}, shifts of
+ * elements when inserting or removing in its middle, and node walks of
+ * positional lookups in {@link LinkedListImpl}.</p>
+ * <p>Metrics are enabled by starting the JVM with
+ * {@code -Dru.clevertec.custom_collection.metrics=true}. The flag is read
+ * once into a static final field, and every hook in the lists is guarded
+ * by it, so when metrics are disabled the JIT compiler removes the hooks
+ * and they cost nothing. When enabled, the counters are {@link LongAdder}s,
+ * which stay cheap under contention, and the metrics are registered as a
+ * {@link ListMetricsMXBean} in the platform MBean server.</p>
+ * <p>A reallocation of at least LARGE_REALLOCATION_BYTES bytes, 1 megabyte
+ * unless set with {@code -Dru.clevertec.custom_collection.metrics.largeReallocationBytes},
+ * is also recorded as a {@code ru.clevertec.custom_collection.LargeReallocation}
+ * event when the JVM has Flight Recorder, with the stack trace of the
+ * code which made the list grow.</p>
+ * <p>Byte counts assume references of 4 bytes, as with compressed
+ * references on a 64-bit JVM.</p>
+ * @author  Olga Mailychko
+ * @see     ListMetricsMXBean
+ * @since   1.8
+ */
+public final class ListMetrics implements ListMetricsMXBean {
+
+    /**
+     * System property enabling the metrics.
+     */
+    public static final String ENABLED_PROPERTY = "ru.clevertec.custom_collection.metrics";
+
+    /**
+     * System property setting the size of a large reallocation in bytes.
+     */
+    public static final String LARGE_REALLOCATION_PROPERTY = ENABLED_PROPERTY + ".largeReallocationBytes";
+
+    /**
+     * Name of the MXBean in the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "ru.clevertec.custom_collection:type=ListMetrics";
+
+    /**
+     * Number of histogram buckets, enough for any int value.
+     */
+    public static final int BUCKETS = 33;
+
+    /**
+     * Whether the lists record metrics; constant for the life of the JVM.
+     */
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final long LARGE_REALLOCATION_BYTES = Long.getLong(LARGE_REALLOCATION_PROPERTY, 1 << 20);
+
+    private static final int REFERENCE_BYTES = 4;
+
+    private static final String FLIGHT_RECORDER_CLASS =
+            "ru.clevertec.custom_collection.my_list.LargeReallocationEvent$Recorder";
+
+    private static final ReallocationRecorder FLIGHT_RECORDER = flightRecorder();
+
+    private static final ListMetrics INSTANCE = new ListMetrics();
+
+    static {
+        if (ENABLED) {
+            register(ManagementFactory.getPlatformMBeanServer());
+        }
+    }
+
+    private final LongAdder growCount = new LongAdder();
+    private final LongAdder reallocatedBytes = new LongAdder();
+    private final LongAdder copyCount = new LongAdder();
+    private final LongAdder copiedBytes = new LongAdder();
+    private final LongAdder[] copyHistogram = newHistogram();
+    private final LongAdder traversalCount = new LongAdder();
+    private final LongAdder traversalHops = new LongAdder();
+    private final LongAdder[] traversalHistogram = newHistogram();
+
+    private ListMetrics() {
+    }
+
+    /**
+     * Returns the metrics of all lists in this JVM.
+     *
+     * @return the metrics
+     */
+    public static ListMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns {@code true} if the lists record metrics.
+     *
+     * @return {@code true} if metrics are enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the histogram bucket of a value: bucket 0 counts zeros and
+     * bucket i counts the values from 2<sup>i-1</sup> to 2<sup>i</sup> - 1.
+     *
+     * @param value a non-negative value
+     * @return the bucket of the value
+     */
+    public static int bucketOf(int value) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(value);
+    }
+
+    @Override
+    public long getGrowCount() {
+        return growCount.sum();
+    }
+
+    @Override
+    public long getReallocatedBytes() {
+        return reallocatedBytes.sum();
+    }
+
+    @Override
+    public long getCopyCount() {
+        return copyCount.sum();
+    }
+
+    @Override
+    public long getCopiedBytes() {
+        return copiedBytes.sum();
+    }
+
+    @Override
+    public long[] getCopyHistogram() {
+        return snapshot(copyHistogram);
+    }
+
+    @Override
+    public long getTraversalCount() {
+        return traversalCount.sum();
+    }
+
+    @Override
+    public long getTraversalHops() {
+        return traversalHops.sum();
+    }
+
+    @Override
+    public double getMeanTraversalHops() {
+        long count = traversalCount.sum();
+        return count == 0 ? 0 : (double) traversalHops.sum() / count;
+    }
+
+    @Override
+    public long[] getTraversalHistogram() {
+        return snapshot(traversalHistogram);
+    }
+
+    @Override
+    public void reset() {
+        growCount.reset();
+        reallocatedBytes.reset();
+        copyCount.reset();
+        copiedBytes.reset();
+        traversalCount.reset();
+        traversalHops.reset();
+        for (int i = 0; i < BUCKETS; i++) {
+            copyHistogram[i].reset();
+            traversalHistogram[i].reset();
+        }
+    }
+
+    /**
+     * Records the reallocation of an array buffer of the list.
+     *
+     * @param list the growing list
+     * @param oldCapacity length of the old buffer
+     * @param newCapacity length of the new buffer
+     */
+    static void recordReallocation(Object list, int oldCapacity, int newCapacity) {
+        long bytes = (long) newCapacity * REFERENCE_BYTES;
+        INSTANCE.growCount.increment();
+        INSTANCE.reallocatedBytes.add(bytes);
+        if (bytes >= LARGE_REALLOCATION_BYTES && FLIGHT_RECORDER != null) {
+            FLIGHT_RECORDER.record(list.getClass(), oldCapacity, newCapacity, bytes);
+        }
+    }
+
+    /**
+     * Records a shift of elements inside an array buffer.
+     *
+     * @param elements number of elements moved
+     */
+    static void recordCopy(int elements) {
+        INSTANCE.copyCount.increment();
+        INSTANCE.copiedBytes.add((long) elements * REFERENCE_BYTES);
+        INSTANCE.copyHistogram[bucketOf(elements)].increment();
+    }
+
+    /**
+     * Records a positional lookup walking the nodes of a linked list.
+     *
+     * @param hops number of links followed
+     */
+    static void recordTraversal(int hops) {
+        INSTANCE.traversalCount.increment();
+        INSTANCE.traversalHops.add(hops);
+        INSTANCE.traversalHistogram[bucketOf(hops)].increment();
+    }
+
+    /**
+     * Registers the metrics in the specified MBean server under OBJECT_NAME,
+     * unless something is registered there already.
+     *
+     * @param server the MBean server
+     * @return {@code true} if the metrics were registered
+     */
+    static boolean register(MBeanServer server) {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                return false;
+            }
+            server.registerMBean(INSTANCE, name);
+            return true;
+        } catch (JMException e) {
+            return false;
+        }
+    }
+
+    private static LongAdder[] newHistogram() {
+        LongAdder[] histogram = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] = new LongAdder();
+        }
+        return histogram;
+    }
+
+    private static long[] snapshot(LongAdder[] histogram) {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the recorder of Flight Recorder events, or {@code null} if
+     * the JVM has no Flight Recorder. It is part of JDK 11 and later and of
+     * JDK 8 from update 262; on other runtimes the event class is never
+     * loaded. The recorder is compiled in the {@code jfr} source set and
+     * loaded by name, so this class compiles against the Java 8 API.
+     */
+    private static ReallocationRecorder flightRecorder() {
+        ClassLoader loader = ListMetrics.class.getClassLoader();
+        try {
+            Class.forName("jdk.jfr.Event", false, loader);
+            return (ReallocationRecorder) Class.forName(FLIGHT_RECORDER_CLASS, true, loader)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Receiver of large reallocations.
+     */
+    interface ReallocationRecorder {
+
+        void record(Class<?> listClass, int oldCapacity, int newCapacity, long bytes);
+    }
+}
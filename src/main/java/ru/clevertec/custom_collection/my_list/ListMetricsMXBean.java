@@ -0,0 +1,83 @@
+package ru.clevertec.custom_collection.my_list;
+
+/**
+ * <p>Management interface of {@link ListMetrics}.</p>
+ * <p>When metrics are enabled it is registered in the platform MBean
+ * server under {@value ListMetrics#OBJECT_NAME}, so the counters can be
+ * watched in JConsole or VisualVM on a running application.</p>
+ * @author  Olga Mailychko
+ * @see     ListMetrics
+ * @since   1.8
+ */
+public interface ListMetricsMXBean {
+
+    /**
+     * Returns the number of times an array buffer was reallocated to grow.
+     *
+     * @return the number of reallocations
+     */
+    long getGrowCount();
+
+    /**
+     * Returns the total size in bytes of the array buffers allocated to grow.
+     *
+     * @return the number of bytes allocated by reallocations
+     */
+    long getReallocatedBytes();
+
+    /**
+     * Returns the number of shifts of elements inside an array buffer
+     * caused by inserting or removing in the middle of a list.
+     *
+     * @return the number of shifts
+     */
+    long getCopyCount();
+
+    /**
+     * Returns the total number of bytes moved by those shifts.
+     *
+     * @return the number of bytes moved
+     */
+    long getCopiedBytes();
+
+    /**
+     * Returns the histogram of the number of elements moved per shift.
+     *
+     * @return bucket counts, see {@link ListMetrics#bucketOf}
+     */
+    long[] getCopyHistogram();
+
+    /**
+     * Returns the number of positional lookups walking a linked list.
+     *
+     * @return the number of lookups
+     */
+    long getTraversalCount();
+
+    /**
+     * Returns the total number of nodes walked by those lookups.
+     *
+     * @return the number of hops
+     */
+    long getTraversalHops();
+
+    /**
+     * Returns the average number of nodes walked per lookup. Values
+     * growing with the list size point at indexed loops over linked lists.
+     *
+     * @return hops per lookup, or 0 if there were no lookups
+     */
+    double getMeanTraversalHops();
+
+    /**
+     * Returns the histogram of the number of nodes walked per lookup.
+     *
+     * @return bucket counts, see {@link ListMetrics#bucketOf}
+     */
+    long[] getTraversalHistogram();
+
+    /**
+     * Resets all counters and histograms to zero.
+     */
+    void reset();
+}
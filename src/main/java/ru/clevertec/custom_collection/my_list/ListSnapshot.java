@@ -0,0 +1,193 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.List;
+
+/**
+ * <p>{@link Externalizable} snapshot of a list for fast snapshot/restore.</p>
+ * <p>The stream starts with a versioned header: a magic number, the format
+ * version, the kind of the list, the kind of the elements, the size and
+ * the settings of the list.
+ * When every element is an {@link Integer} or every one is a {@link Long},
+ * the values are written as raw primitives; otherwise each element is
+ * written with {@link ObjectOutput#writeObject}. Unlike default
+ * serialization no class descriptors of the list are written, and the
+ * restored list is built with its final size known in advance.</p>
+ * <p>A {@link LinkedListImpl} is restored as a {@link LinkedListImpl}
+ * with the same pool capacity, any other list as an {@link ArrayListImpl}
+ * whose buffer has exactly the snapshot's size. The {@link GrowthStrategy}
+ * and {@link ShrinkPolicy} of an {@link ArrayListImpl} are preserved;
+ * other lists are restored with the default policies. Snapshots of format version 1, which carry no settings, are
+ * restored with the default settings too.</p>
+ * @param <T> the type of elements in the list
+ * @author  Olga Mailychko
+ * @see     ArrayListImpl
+ * @see     LinkedListImpl
+ * @since   1.8
+ */
+public class ListSnapshot<T> implements Externalizable {
+
+    private static final long serialVersionUID = 1L;
+    /**
+     * Magic number opening the header, "LSNP" in ASCII.
+     */
+    static final int MAGIC = 0x4C534E50;
+
+    /**
+     * Current format version.
+     */
+    static final byte VERSION = 2;
+
+    private static final byte ARRAY_LIST = 0;
+    private static final byte LINKED_LIST = 1;
+
+    private static final byte OBJECT_ELEMENTS = 0;
+    private static final byte INT_ELEMENTS = 1;
+    private static final byte LONG_ELEMENTS = 2;
+
+    /**
+     * The captured or restored list.
+     */
+    private List<T> list;
+
+    /**
+     * Constructs an empty snapshot to be filled by {@link #readExternal}.
+     */
+    public ListSnapshot() {
+    }
+
+    /**
+     * Constructs a snapshot of the specified list. The list is not copied,
+     * so it must not be modified until the snapshot is written.
+     *
+     * @param list the list to be captured
+     * @throws NullPointerException if the specified list is null
+     */
+    public ListSnapshot(List<T> list) {
+        if (list == null) throw new NullPointerException();
+        this.list = list;
+    }
+
+    /**
+     * Returns the captured list, or the restored one after
+     * {@link #readExternal}.
+     *
+     * @return the list of this snapshot
+     */
+    public List<T> getList() {
+        return list;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        Object[] elements = list.toArray();
+        byte elementKind = elementKind(elements);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(list instanceof LinkedListImpl ? LINKED_LIST : ARRAY_LIST);
+        out.writeByte(elementKind);
+        out.writeInt(elements.length);
+        if (list instanceof LinkedListImpl) {
+            out.writeInt(((LinkedListImpl<T>) list).poolCapacity());
+        } else if (list instanceof ArrayListImpl) {
+            out.writeObject(((ArrayListImpl<T>) list).growthStrategy());
+            out.writeObject(((ArrayListImpl<T>) list).shrinkPolicy());
+        } else {
+            out.writeObject(null);
+            out.writeObject(null);
+        }
+        for (Object element : elements) {
+            if (elementKind == INT_ELEMENTS) {
+                out.writeInt((Integer) element);
+            } else if (elementKind == LONG_ELEMENTS) {
+                out.writeLong((Long) element);
+            } else {
+                out.writeObject(element);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        if (in.readInt() != MAGIC) {
+            throw new InvalidObjectException("Not a list snapshot");
+        }
+        byte version = in.readByte();
+        if (version < 1 || version > VERSION) {
+            throw new InvalidObjectException("Unsupported snapshot version: " + version);
+        }
+        byte listKind = in.readByte();
+        byte elementKind = in.readByte();
+        int size = in.readInt();
+        if (listKind != ARRAY_LIST && listKind != LINKED_LIST
+                || elementKind < OBJECT_ELEMENTS || elementKind > LONG_ELEMENTS || size < 0) {
+            throw new InvalidObjectException("Corrupted snapshot header");
+        }
+        int poolCapacity = 0;
+        GrowthStrategy growthStrategy = GrowthStrategy.defaultStrategy();
+        ShrinkPolicy shrinkPolicy = null;
+        if (version > 1) {
+            if (listKind == LINKED_LIST) {
+                poolCapacity = in.readInt();
+            } else {
+                Object growth = in.readObject();
+                Object shrink = in.readObject();
+                if (growth != null && !(growth instanceof GrowthStrategy)
+                        || shrink != null && !(shrink instanceof ShrinkPolicy)) {
+                    throw new InvalidObjectException("Corrupted snapshot settings");
+                }
+                if (growth != null) {
+                    growthStrategy = (GrowthStrategy) growth;
+                }
+                shrinkPolicy = (ShrinkPolicy) shrink;
+            }
+            if (poolCapacity < 0) {
+                throw new InvalidObjectException("Corrupted snapshot settings");
+            }
+        }
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            if (elementKind == INT_ELEMENTS) {
+                elements[i] = in.readInt();
+            } else if (elementKind == LONG_ELEMENTS) {
+                elements[i] = in.readLong();
+            } else {
+                elements[i] = in.readObject();
+            }
+        }
+        if (listKind == LINKED_LIST) {
+            LinkedListImpl<T> linked = new LinkedListImpl<>(poolCapacity);
+            for (Object element : elements) {
+                linked.addLast((T) element);
+            }
+            list = linked;
+        } else {
+            list = new ArrayListImpl<>(elements, growthStrategy, shrinkPolicy);
+        }
+    }
+
+    /**
+     * Returns the kind of elements allowing the compact encoding, which
+     * needs every element to be non-null and of the same wrapper type.
+     */
+    private static byte elementKind(Object[] elements) {
+        if (elements.length == 0) {
+            return OBJECT_ELEMENTS;
+        }
+        Class<?> type = elements[0] == null ? null : elements[0].getClass();
+        if (type != Integer.class && type != Long.class) {
+            return OBJECT_ELEMENTS;
+        }
+        for (Object element : elements) {
+            if (element == null || element.getClass() != type) {
+                return OBJECT_ELEMENTS;
+            }
+        }
+        return type == Integer.class ? INT_ELEMENTS : LONG_ELEMENTS;
+    }
+}
@@ -0,0 +1,453 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * <p>Persistent implementation of the {@link List} interface keeping its
+ * elements in a memory-mapped file.</p>
+ * <p>The file starts with a header of HEADER_BYTES bytes holding a magic
+ * number, the format version, the width of an element and the size of
+ * the list, followed by the elements encoded by an {@link ElementCodec}
+ * one after another in little-endian byte order. The file is mapped in
+ * regions of equal size; when the list outgrows the mapped regions the
+ * next region is mapped, which extends the file, and existing elements
+ * are never copied.</p>
+ * <p>Opening an existing file only validates the header and maps the
+ * regions, so it takes about the same time for any size; the elements
+ * are paged in lazily on first access. Every change is visible in the
+ * file right away, but it is durable across a system crash only after
+ * {@link #force()} returns.</p>
+ * <p>The list must be closed when it is no longer needed, any further
+ * access fails with {@link IllegalStateException}. Closing closes the
+ * file but cannot unmap the regions: Java has no public API for it, so
+ * they stay mapped until the garbage collector reclaims them. Until then
+ * some platforms, such as Windows, refuse to delete or truncate the file.
+ * {@code null} elements are not permitted.</p>
+ * @param <T> the type of elements in this list
+ * @author  Olga Mailychko
+ * @see     ElementCodec
+ * @see     OffHeapList
+ * @since   1.8
+ */
+public class MappedFileList<T> extends AbstractList<T>
+        implements List<T>, RandomAccess, Closeable {
+
+    /**
+     * Magic number opening the file, "MFLS" in ASCII.
+     */
+    static final int MAGIC = 0x4D464C53;
+
+    /**
+     * Current format version.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Size of the file header in bytes.
+     */
+    static final int HEADER_BYTES = 32;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int WIDTH_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+
+    /**
+     * Default size of a mapped region in bytes.
+     */
+    private static final int DEFAULT_REGION_BYTES = 1 << 24;
+
+    /**
+     * Codec encoding elements into regions.
+     */
+    private final ElementCodec<T> codec;
+
+    /**
+     * Width of an encoded element in bytes.
+     */
+    private final int width;
+
+    /**
+     * Binary logarithm of the number of elements in a region.
+     */
+    private final int regionShift;
+
+    /**
+     * Mask extracting the element's position inside its region from its index.
+     */
+    private final int regionMask;
+
+    /**
+     * Channel of the backing file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Mapped header of the file.
+     */
+    private final MappedByteBuffer header;
+
+    /**
+     * Mapped regions holding the encoded elements.
+     */
+    private final ArrayListImpl<MappedByteBuffer> regions = new ArrayListImpl<>();
+
+    /**
+     * The number of elements the list contains.
+     */
+    private int size;
+
+    /**
+     * Set when the list is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Opens the list stored in the specified file, creating an empty one
+     * if the file does not exist. Regions are about 16 megabytes.
+     *
+     * @param path the backing file
+     * @param codec codec encoding the elements
+     * @throws IOException if the file cannot be opened or mapped, or it
+     *         is not a list file written with a codec of the same width
+     * @throws IllegalArgumentException if the codec's width is not positive
+     * @throws NullPointerException if the specified path or codec is null
+     */
+    public MappedFileList(Path path, ElementCodec<T> codec) throws IOException {
+        this(path, codec, defaultElementsPerRegion(codec));
+    }
+
+    /**
+     * Opens the list stored in the specified file, creating an empty one
+     * if the file does not exist, and maps it in regions of the specified
+     * number of elements.
+     *
+     * @param path the backing file
+     * @param codec codec encoding the elements
+     * @param elementsPerRegion number of elements in a region, a power of two
+     * @throws IOException if the file cannot be opened or mapped, or it
+     *         is not a list file written with a codec of the same width
+     * @throws IllegalArgumentException if elementsPerRegion is not a positive
+     *         power of two or the codec's width is not positive
+     * @throws NullPointerException if the specified path or codec is null
+     */
+    public MappedFileList(Path path, ElementCodec<T> codec, int elementsPerRegion) throws IOException {
+        if (path == null || codec == null) throw new NullPointerException();
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException("Illegal element width: " + codec.width());
+        }
+        if (elementsPerRegion <= 0 || Integer.bitCount(elementsPerRegion) != 1) {
+            throw new IllegalArgumentException("Illegal region size: " + elementsPerRegion);
+        }
+        if ((long) elementsPerRegion * codec.width() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Region too large: " + elementsPerRegion);
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.regionShift = Integer.numberOfTrailingZeros(elementsPerRegion);
+        this.regionMask = elementsPerRegion - 1;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long fileSize = channel.size();
+            if (fileSize != 0 && fileSize < HEADER_BYTES) {
+                throw new IOException("Not a list file");
+            }
+            this.header = map(0, HEADER_BYTES);
+            if (fileSize == 0) {
+                header.putInt(MAGIC_OFFSET, MAGIC);
+                header.putInt(VERSION_OFFSET, VERSION);
+                header.putInt(WIDTH_OFFSET, width);
+                header.putLong(SIZE_OFFSET, 0);
+            } else {
+                this.size = readHeader(fileSize);
+            }
+            while (capacity() < size) {
+                mapRegion();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    public T get(int index) {
+        ensureOpen();
+        checkIndex(index);
+        return codec.decode(regionOf(index), offsetOf(index));
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with
+     * the specified element.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public T set(int index, T element) {
+        if (element == null) throw new NullPointerException();
+        T old = get(index);
+        codec.encode(element, regionOf(index), offsetOf(index));
+        return old;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element element to be appended to this list
+     * @return {@code true}
+     * @throws NullPointerException if the specified element is null
+     * @throws UncheckedIOException if the next region cannot be mapped
+     */
+    @Override
+    public boolean add(T element) {
+        add(size, element);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this
+     * list. Shifts the subsequent elements to the right.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws NullPointerException if the specified element is null
+     * @throws UncheckedIOException if the next region cannot be mapped
+     */
+    @Override
+    public void add(int index, T element) {
+        ensureOpen();
+        if (element == null) throw new NullPointerException();
+        if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        if (size == Integer.MAX_VALUE) throw new IllegalStateException("List is full");
+        if (size == capacity()) {
+            try {
+                mapRegion();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        moveElements(index, index + 1, size - index);
+        codec.encode(element, regionOf(index), offsetOf(index));
+        writeSize(size + 1);
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     */
+    @Override
+    public T remove(int index) {
+        T old = get(index);
+        moveElements(index + 1, index, size - index - 1);
+        writeSize(size - 1);
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Removes all of the elements from this list. The file keeps its
+     * length, so the mapped regions are reused.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        writeSize(0);
+        modCount++;
+    }
+
+    /**
+     * Writes all changes of the header and the elements to the storage
+     * device, so they survive a system crash.
+     */
+    public void force() {
+        ensureOpen();
+        for (MappedByteBuffer region : regions) {
+            region.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Closes this list and its file. Changes not yet forced are still
+     * written back by the operating system. The regions stay mapped until
+     * they are garbage collected. Closing an already closed list has no
+     * effect.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            regions.clear();
+            regions.trimToSize();
+            size = 0;
+            modCount++;
+            channel.close();
+        }
+    }
+
+    /**
+     * Returns {@code true} if this list has been closed.
+     *
+     * @return {@code true} if this list has been closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Validates the header of an existing file and returns the stored size.
+     *
+     * @param fileSize current length of the file
+     * @return the size of the stored list
+     * @throws IOException if the header does not describe a list file
+     *         compatible with this codec
+     */
+    private int readHeader(long fileSize) throws IOException {
+        if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("Not a list file");
+        }
+        int version = header.getInt(VERSION_OFFSET);
+        if (version != VERSION) {
+            throw new IOException("Unsupported list file version: " + version);
+        }
+        int storedWidth = header.getInt(WIDTH_OFFSET);
+        if (storedWidth != width) {
+            throw new IOException("Element width " + storedWidth + " does not match codec width " + width);
+        }
+        long storedSize = header.getLong(SIZE_OFFSET);
+        if (storedSize < 0 || storedSize > (fileSize - HEADER_BYTES) / width) {
+            throw new IOException("Corrupted list file size: " + storedSize);
+        }
+        return (int) storedSize;
+    }
+
+    /**
+     * Maps the region following the last mapped one, extending the file
+     * if it is shorter.
+     */
+    private void mapRegion() throws IOException {
+        long regionBytes = (long) (regionMask + 1) * width;
+        regions.add(map(HEADER_BYTES + regions.size() * regionBytes, regionBytes));
+    }
+
+    private MappedByteBuffer map(long position, long length) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private void writeSize(int newSize) {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    /**
+     * Moves the encoded bytes of a range of elements to another position,
+     * with one bulk copy for each piece lying inside a single region on
+     * both sides. When moving right the pieces are copied from the end,
+     * so an overlapping range is never overwritten before it is read;
+     * inside one region the copy of a mapped buffer is overlap-safe.
+     *
+     * @param from index of the first element to be moved
+     * @param to index of the slot receiving the first element
+     * @param count number of elements to be moved
+     */
+    private void moveElements(int from, int to, int count) {
+        int elementsPerRegion = regionMask + 1;
+        if (to > from) {
+            while (count > 0) {
+                int piece = Math.min(count, Math.min(
+                        ((from + count - 1) & regionMask) + 1,
+                        ((to + count - 1) & regionMask) + 1));
+                count -= piece;
+                copyElements(from + count, to + count, piece);
+            }
+        } else {
+            while (count > 0) {
+                int piece = Math.min(count, Math.min(
+                        elementsPerRegion - (from & regionMask),
+                        elementsPerRegion - (to & regionMask)));
+                copyElements(from, to, piece);
+                from += piece;
+                to += piece;
+                count -= piece;
+            }
+        }
+    }
+
+    /**
+     * Copies elements lying inside one region into slots inside one region.
+     */
+    private void copyElements(int from, int to, int count) {
+        ByteBuffer source = regionOf(from).duplicate();
+        source.limit(offsetOf(from) + count * width);
+        source.position(offsetOf(from));
+        ByteBuffer target = regionOf(to).duplicate();
+        target.position(offsetOf(to));
+        target.put(source);
+    }
+
+    private static int defaultElementsPerRegion(ElementCodec<?> codec) {
+        int width = codec.width();
+        if (width <= 0) {
+            throw new IllegalArgumentException("Illegal element width: " + width);
+        }
+        return Integer.highestOneBit(Math.max(1, DEFAULT_REGION_BYTES / width));
+    }
+
+    private ByteBuffer regionOf(int index) {
+        return regions.get(index >>> regionShift);
+    }
+
+    private int offsetOf(int index) {
+        return (index & regionMask) * width;
+    }
+
+    private long capacity() {
+        return (long) regions.size() << regionShift;
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) throw new IllegalArgumentException("invalid index");
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("List is closed");
+    }
+}
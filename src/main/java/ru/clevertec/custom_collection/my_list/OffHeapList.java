@@ -0,0 +1,371 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+
+/**
+ * <p>Implementation of the {@link List} interface keeping its elements
+ * outside the Java heap.</p>
+ * <p>Elements are encoded by an {@link ElementCodec} into direct
+ * {@link ByteBuffer} chunks of equal size. The list grows by allocating
+ * another chunk, so existing elements are never copied on growth.</p>
+ * <p>The list should be closed when it is no longer needed. Closing frees
+ * the native memory of all chunks at once, without waiting for the
+ * garbage collector, and any further access fails with
+ * {@link IllegalStateException}. Once {@link #exportBuffers()} has been
+ * called, views of the chunks may still be reachable, so from then on the
+ * chunks are only dropped and their memory is freed by the garbage
+ * collector, as it also is when the JVM gives no access to the cleaner of
+ * direct buffers.</p>
+ * <p>{@code null} elements are not permitted.</p>
+ * @param <T> the type of elements in this list
+ * @author  Olga Mailychko
+ * @see     ElementCodec
+ * @see     ArrayListImpl
+ * @since   1.8
+ */
+public class OffHeapList<T> extends AbstractList<T>
+        implements List<T>, RandomAccess, Closeable {
+
+    /**
+     * Default size of a chunk in bytes.
+     */
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 16;
+
+    /**
+     * Codec encoding elements into chunks.
+     */
+    private final ElementCodec<T> codec;
+
+    /**
+     * Width of an encoded element in bytes.
+     */
+    private final int width;
+
+    /**
+     * Binary logarithm of the number of elements in a chunk.
+     */
+    private final int chunkShift;
+
+    /**
+     * Mask extracting the element's position inside its chunk from its index.
+     */
+    private final int chunkMask;
+
+    /**
+     * Direct buffers holding the encoded elements.
+     */
+    private final ArrayListImpl<ByteBuffer> chunks = new ArrayListImpl<>();
+
+    /**
+     * The number of elements the list contains.
+     */
+    private int size;
+
+    /**
+     * Set when the list is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Set once buffers sharing memory with the chunks have been exported;
+     * the chunks are not freed explicitly afterwards.
+     */
+    private boolean buffersExported;
+
+    /**
+     * Constructs an empty list with chunks of about 64 kilobytes.
+     *
+     * @param codec codec encoding the elements
+     * @throws IllegalArgumentException if the codec's width is not positive
+     * @throws NullPointerException if the specified codec is null
+     */
+    public OffHeapList(ElementCodec<T> codec) {
+        this(codec, defaultElementsPerChunk(codec));
+    }
+
+    /**
+     * Constructs an empty list storing the specified number of elements
+     * in each chunk.
+     *
+     * @param codec codec encoding the elements
+     * @param elementsPerChunk number of elements in a chunk, a power of two
+     * @throws IllegalArgumentException if elementsPerChunk is not a positive
+     *         power of two or the codec's width is not positive
+     * @throws NullPointerException if the specified codec is null
+     */
+    public OffHeapList(ElementCodec<T> codec, int elementsPerChunk) {
+        if (codec == null) throw new NullPointerException();
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException("Illegal element width: " + codec.width());
+        }
+        if (elementsPerChunk <= 0 || Integer.bitCount(elementsPerChunk) != 1) {
+            throw new IllegalArgumentException("Illegal chunk size: " + elementsPerChunk);
+        }
+        if ((long) elementsPerChunk * codec.width() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk too large: " + elementsPerChunk);
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.chunkShift = Integer.numberOfTrailingZeros(elementsPerChunk);
+        this.chunkMask = elementsPerChunk - 1;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    public T get(int index) {
+        ensureOpen();
+        checkIndex(index);
+        return codec.decode(chunkOf(index), offsetOf(index));
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with
+     * the specified element.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public T set(int index, T element) {
+        if (element == null) throw new NullPointerException();
+        T old = get(index);
+        codec.encode(element, chunkOf(index), offsetOf(index));
+        return old;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element element to be appended to this list
+     * @return {@code true}
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean add(T element) {
+        add(size, element);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this
+     * list. Shifts the subsequent elements to the right.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public void add(int index, T element) {
+        ensureOpen();
+        if (element == null) throw new NullPointerException();
+        if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        if (size == Integer.MAX_VALUE) throw new IllegalStateException("List is full");
+        if (size == capacity()) {
+            chunks.add(ByteBuffer.allocateDirect((chunkMask + 1) * width).order(ByteOrder.nativeOrder()));
+        }
+        moveElements(index, index + 1, size - index);
+        codec.encode(element, chunkOf(index), offsetOf(index));
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     */
+    @Override
+    public T remove(int index) {
+        T old = get(index);
+        moveElements(index + 1, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Removes all of the elements from this list. Allocated chunks are
+     * kept for reuse, {@link #trimToSize()} releases them.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Releases the chunks which hold no elements, freeing their native
+     * memory unless buffers have been exported.
+     */
+    public void trimToSize() {
+        ensureOpen();
+        int usedChunks = (int) (((long) size + chunkMask) >>> chunkShift);
+        while (chunks.size() > usedChunks) {
+            release(chunks.remove(chunks.size() - 1));
+        }
+    }
+
+    /**
+     * Returns read-only views of the buffers holding the elements, in
+     * order. No bytes are copied; the views share memory with this list
+     * and are limited to the encoded elements. The views become invalid
+     * once the list is modified or closed. As the views keep using the
+     * memory of the chunks, it is no longer freed explicitly by
+     * {@link #close()} and {@link #trimToSize()}.
+     *
+     * @return list of read-only buffers in element order
+     */
+    public List<ByteBuffer> exportBuffers() {
+        ensureOpen();
+        buffersExported = true;
+        List<ByteBuffer> buffers = new ArrayListImpl<>(chunks.size());
+        int remaining = size;
+        for (ByteBuffer chunk : chunks) {
+            if (remaining == 0) {
+                break;
+            }
+            int count = Math.min(remaining, chunkMask + 1);
+            ByteBuffer view = chunk.asReadOnlyBuffer().order(chunk.order());
+            view.clear();
+            view.limit(count * width);
+            buffers.add(view);
+            remaining -= count;
+        }
+        return buffers;
+    }
+
+    /**
+     * Closes this list and frees the native memory of its chunks, unless
+     * buffers have been exported. Closing an already closed list has no
+     * effect.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            for (ByteBuffer chunk : chunks) {
+                release(chunk);
+            }
+            chunks.clear();
+            chunks.trimToSize();
+            size = 0;
+            modCount++;
+        }
+    }
+
+    /**
+     * Returns {@code true} if this list has been closed.
+     *
+     * @return {@code true} if this list has been closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Moves the encoded bytes of a range of elements to another position,
+     * with one bulk copy for each piece lying inside a single chunk on
+     * both sides. When moving right the pieces are copied from the end,
+     * so an overlapping range is never overwritten before it is read;
+     * inside one chunk the copy of a direct buffer is overlap-safe.
+     *
+     * @param from index of the first element to be moved
+     * @param to index of the slot receiving the first element
+     * @param count number of elements to be moved
+     */
+    private void moveElements(int from, int to, int count) {
+        int elementsPerChunk = chunkMask + 1;
+        if (to > from) {
+            while (count > 0) {
+                int piece = Math.min(count, Math.min(
+                        ((from + count - 1) & chunkMask) + 1,
+                        ((to + count - 1) & chunkMask) + 1));
+                count -= piece;
+                copyElements(from + count, to + count, piece);
+            }
+        } else {
+            while (count > 0) {
+                int piece = Math.min(count, Math.min(
+                        elementsPerChunk - (from & chunkMask),
+                        elementsPerChunk - (to & chunkMask)));
+                copyElements(from, to, piece);
+                from += piece;
+                to += piece;
+                count -= piece;
+            }
+        }
+    }
+
+    /**
+     * Copies elements lying inside one chunk into slots inside one chunk.
+     */
+    private void copyElements(int from, int to, int count) {
+        ByteBuffer source = chunkOf(from).duplicate();
+        source.limit(offsetOf(from) + count * width);
+        source.position(offsetOf(from));
+        ByteBuffer target = chunkOf(to).duplicate();
+        target.position(offsetOf(to));
+        target.put(source);
+    }
+
+    /**
+     * Frees the memory of a dropped chunk, unless views of it may have
+     * been exported.
+     */
+    private void release(ByteBuffer chunk) {
+        if (!buffersExported) {
+            DirectBuffers.free(chunk);
+        }
+    }
+
+    private static int defaultElementsPerChunk(ElementCodec<?> codec) {
+        int width = codec.width();
+        if (width <= 0) {
+            throw new IllegalArgumentException("Illegal element width: " + width);
+        }
+        return Integer.highestOneBit(Math.max(1, DEFAULT_CHUNK_BYTES / width));
+    }
+
+    private ByteBuffer chunkOf(int index) {
+        return chunks.get(index >>> chunkShift);
+    }
+
+    private int offsetOf(int index) {
+        return (index & chunkMask) * width;
+    }
+
+    private long capacity() {
+        return (long) chunks.size() << chunkShift;
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) throw new IllegalArgumentException("invalid index");
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("List is closed");
+    }
+}
@@ -0,0 +1,118 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>Stable fork/join merge sort of an array range, run in a given
+ * {@link ForkJoinPool}.</p>
+ * <p>The range is split in halves until a part is small enough, parts are
+ * sorted with {@link Arrays#sort(Object[], int, int, Comparator)} in
+ * parallel and merged back through a buffer of the same length. Unlike
+ * {@link Arrays#parallelSort(Object[], int, int, Comparator)} the sort runs
+ * in the specified pool instead of the common one. If the comparator
+ * throws, the exception is rethrown once no task touches the array any
+ * more, and the contents of the range are unspecified.</p>
+ * @param <T> the type of sorted elements
+ * @author  Olga Mailychko
+ * @see     ArrayListImpl#parallelSort
+ * @since   1.8
+ */
+final class ParallelMergeSort<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+    /**
+     * Smallest part sorted by a single task.
+     */
+    static final int MIN_PARTITION = 1 << 13;
+
+    private final T[] array;
+    /**
+     * Buffer as long as the whole sorted range; element i of the array
+     * is buffered at i - offset.
+     */
+    private final T[] buffer;
+    private final int offset;
+    private final int from;
+    private final int to;
+    private final int partition;
+    private final Comparator<? super T> comparator;
+
+    private ParallelMergeSort(T[] array, T[] buffer, int offset, int from, int to, int partition,
+                              Comparator<? super T> comparator) {
+        this.array = array;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.from = from;
+        this.to = to;
+        this.partition = partition;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Sorts the specified range of the array in the specified pool.
+     *
+     * @param array the array to be sorted
+     * @param from the index of the first element, inclusive
+     * @param to the index of the last element, exclusive
+     * @param comparator the comparator, {@code null} for natural ordering
+     * @param pool the pool running the sort
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator, ForkJoinPool pool) {
+        Comparator<? super T> c = comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+        int length = to - from;
+        int parallelism = pool.getParallelism();
+        if (length <= MIN_PARTITION || parallelism == 1) {
+            Arrays.sort(array, from, to, c);
+            return;
+        }
+        int partition = Math.max(MIN_PARTITION, length / (parallelism << 2));
+        T[] buffer = (T[]) new Object[length];
+        pool.invoke(new ParallelMergeSort<>(array, buffer, from, from, to, partition, c));
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= partition) {
+            Arrays.sort(array, from, to, comparator);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        ParallelMergeSort<T> right = new ParallelMergeSort<>(array, buffer, offset, middle, to, partition, comparator);
+        right.fork();
+        try {
+            new ParallelMergeSort<>(array, buffer, offset, from, middle, partition, comparator).compute();
+        } finally {
+            right.quietlyJoin();
+        }
+        right.join();
+        merge(middle);
+    }
+
+    /**
+     * Merges the sorted halves around the middle index, moving the left
+     * half to the buffer first.
+     */
+    private void merge(int middle) {
+        if (comparator.compare(array[middle - 1], array[middle]) <= 0) {
+            return;
+        }
+        System.arraycopy(array, from, buffer, from - offset, middle - from);
+        int left = from - offset;
+        int leftEnd = middle - offset;
+        int right = middle;
+        int target = from;
+        while (left < leftEnd && right < to) {
+            if (comparator.compare(array[right], buffer[left]) < 0) {
+                array[target++] = array[right++];
+            } else {
+                array[target++] = buffer[left++];
+            }
+        }
+        System.arraycopy(buffer, left, array, target, leftEnd - left);
+        Arrays.fill(buffer, from - offset, leftEnd, null);
+    }
+}
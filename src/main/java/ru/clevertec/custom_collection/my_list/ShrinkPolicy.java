@@ -0,0 +1,83 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.io.Serializable;
+
+/**
+ * <p>Policy deciding whether an array-backed list releases capacity
+ * after elements are removed.</p>
+ * <p>Policies are passed to the list's constructor. The default one,
+ * {@link #never()}, keeps the capacity as {@link java.util.ArrayList}
+ * does, so a list that once held many elements keeps its array buffer
+ * until {@code trimToSize} is called. {@link #halving(double, int)}
+ * makes the heap footprint of the list track its size instead.</p>
+ * @author  Olga Mailychko
+ * @see     ArrayListImpl
+ * @see     GrowthStrategy
+ * @since   1.8
+ */
+@FunctionalInterface
+public interface ShrinkPolicy extends Serializable {
+
+    /**
+     * Serialization version of this interface.
+     */
+    long serialVersionUID = 1L;
+
+    /**
+     * Returns the new capacity for an array of the current capacity
+     * holding size elements after a removal.
+     *
+     * @param currentCapacity the current length of the array
+     * @param size the number of elements left in the array
+     * @return new capacity, never less than size; currentCapacity
+     *         if the array is kept
+     */
+    int newCapacity(int currentCapacity, int size);
+
+    /**
+     * Returns policy which never shrinks the array.
+     *
+     * @return the default shrink policy
+     */
+    static ShrinkPolicy never() {
+        return (currentCapacity, size) -> currentCapacity;
+    }
+
+    /**
+     * Returns policy halving the capacity while the list fills less than
+     * minLoad of it. As minLoad is below one half, a halved list is still
+     * not full, so adding and removing at the boundary does not reallocate
+     * each time: with minLoad 0.25, after a shrink the size has to double
+     * to grow again or halve to shrink again. Capacity never drops below
+     * minCapacity, so small lists are not reallocated at all.
+     *
+     * @param minLoad fraction of the capacity below which the list shrinks,
+     *                must be greater than 0 and less than 0.5
+     * @param minCapacity capacity the list never shrinks below, must not
+     *                    be negative
+     * @return halving shrink policy
+     * @throws IllegalArgumentException if minLoad or minCapacity is out
+     *         of range
+     */
+    static ShrinkPolicy halving(double minLoad, int minCapacity) {
+        if (!(minLoad > 0 && minLoad < 0.5)) throw new IllegalArgumentException("Illegal min load: " + minLoad);
+        if (minCapacity < 0) throw new IllegalArgumentException("Illegal min capacity: " + minCapacity);
+        return (currentCapacity, size) -> {
+            int capacity = currentCapacity;
+            while (capacity / 2 >= minCapacity && size < capacity * minLoad) {
+                capacity /= 2;
+            }
+            return capacity;
+        };
+    }
+
+    /**
+     * Returns policy halving the capacity when the list fills less than
+     * a quarter of it, down to 16 slots.
+     *
+     * @return quarter shrink policy
+     */
+    static ShrinkPolicy quarter() {
+        return halving(0.25, 16);
+    }
+}
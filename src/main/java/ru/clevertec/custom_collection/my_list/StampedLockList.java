@@ -0,0 +1,733 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.util.*;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>Thread-safe wrapper around a list, such as {@link ArrayListImpl} or
+ * {@link LinkedListImpl}, guarded by a {@link StampedLock}.</p>
+ * <p>{@link #get}, {@link #size}, {@link #isEmpty}, {@link #indexOf},
+ * {@link #lastIndexOf} and {@link #contains} first try an optimistic read
+ * which takes no lock at all, and fall back to a shared read lock only if a
+ * write happened meanwhile. For lists which are not {@link RandomAccess}
+ * positional access and searches are traversals which may also update
+ * state of the wrapped list, such as the access finger of
+ * {@link LinkedListImpl}, so they take the read lock directly.
+ * Mutations take the exclusive write lock.</p>
+ * <p>Compound operations {@link #addIfAbsent}, {@link #computeAt} and
+ * {@link #drain} are atomic, so callers need no external locking.
+ * Iterators traverse a snapshot taken under the read lock and do not
+ * support modification. Sub-list views do: each of their operations is
+ * applied to the same range of the wrapped list under the lock.</p>
+ * <p>The wrapped list must not be accessed directly once it is wrapped.</p>
+ * @param <T> the type of elements in this list
+ * @author  Olga Mailychko
+ * @see     ArrayListImpl
+ * @see     LinkedListImpl
+ * @since   1.8
+ */
+public class StampedLockList<T> extends AbstractList<T> implements List<T> {
+
+    /**
+     * The wrapped list.
+     */
+    private final List<T> delegate;
+
+    /**
+     * Lock guarding the wrapped list.
+     */
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Whether positional access and searches may run optimistically over
+     * the wrapped list.
+     */
+    private final boolean optimisticLookup;
+
+    /**
+     * Constructs a thread-safe view of the specified list.
+     *
+     * @param delegate the list to be wrapped
+     * @throws NullPointerException if the specified list is null
+     */
+    public StampedLockList(List<T> delegate) {
+        if (delegate == null) throw new NullPointerException();
+        this.delegate = delegate;
+        this.optimisticLookup = delegate instanceof RandomAccess;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = delegate.size();
+        if (lock.validate(stamp)) {
+            return size;
+        }
+        stamp = lock.readLock();
+        try {
+            return delegate.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns {@code true} if this list contains no elements.
+     *
+     * @return {@code true} if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    public T get(int index) {
+        return lookup(() -> delegate.get(index));
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int indexOf(Object o) {
+        return lookup(() -> delegate.indexOf(o));
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        return lookup(() -> delegate.lastIndexOf(o));
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified element.
+     *
+     * @param o element whose presence in this list is to be tested
+     * @return {@code true} if this list contains the specified element
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns {@code true} if this list contains all of the elements
+     * of the specified collection.
+     *
+     * @param c collection to be checked for containment in this list
+     * @return {@code true} if this list contains all of the elements
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        return read(() -> delegate.containsAll(c));
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list
+     * in proper sequence (from first to last element).
+     *
+     * @return an array containing all of the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        return read(delegate::toArray);
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list;
+     * the runtime type of the returned array is that of the specified array.
+     *
+     * @param a the array into which the elements are to be stored
+     * @return an array containing the elements of this list
+     */
+    @Override
+    public <E> E[] toArray(E[] a) {
+        return read(() -> delegate.toArray(a));
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with
+     * the specified element.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     */
+    @Override
+    public T set(int index, T element) {
+        return write(() -> delegate.set(index, element));
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param t element to be appended to this list
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(T t) {
+        return structuralWrite(() -> delegate.add(t));
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    @Override
+    public void add(int index, T element) {
+        structuralWrite(() -> {
+            delegate.add(index, element);
+            return null;
+        });
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     */
+    @Override
+    public T remove(int index) {
+        return structuralWrite(() -> delegate.remove(index));
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list,
+     * if it is present.
+     *
+     * @param o element to be removed from this list, if present
+     * @return {@code true} if this list contained the specified element
+     */
+    @Override
+    public boolean remove(Object o) {
+        return structuralWrite(() -> delegate.remove(o));
+    }
+
+    /**
+     * Appends all of the elements in the specified collection to the end
+     * of this list atomically.
+     *
+     * @param c collection containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return structuralWrite(() -> delegate.addAll(c));
+    }
+
+    /**
+     * Inserts all of the elements in the specified collection into this
+     * list atomically, starting at the specified position.
+     *
+     * @param index index at which to insert the first element
+     * @param c collection containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        return structuralWrite(() -> delegate.addAll(index, c));
+    }
+
+    /**
+     * Removes from this list all of its elements that are contained in
+     * the specified collection atomically.
+     *
+     * @param c collection containing elements to be removed from this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return structuralWrite(() -> delegate.removeAll(c));
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the
+     * specified collection atomically.
+     *
+     * @param c collection containing elements to be retained in this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return structuralWrite(() -> delegate.retainAll(c));
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given
+     * predicate atomically.
+     *
+     * @param filter a predicate which returns {@code true} for elements
+     *               to be removed
+     * @return {@code true} if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return structuralWrite(() -> delegate.removeIf(filter));
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the
+     * operator to that element atomically.
+     *
+     * @param operator the operator to apply to each element
+     */
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        write(() -> {
+            delegate.replaceAll(operator);
+            return null;
+        });
+    }
+
+    /**
+     * Sorts this list atomically according to the order induced by the
+     * specified comparator.
+     *
+     * @param c the comparator used to compare list elements
+     */
+    @Override
+    public void sort(Comparator<? super T> c) {
+        structuralWrite(() -> {
+            delegate.sort(c);
+            return null;
+        });
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    @Override
+    public void clear() {
+        structuralWrite(() -> {
+            delegate.clear();
+            return null;
+        });
+    }
+
+    /**
+     * Appends the element atomically, if not present.
+     *
+     * @param t element to be added to this list, if absent
+     * @return {@code true} if the element was added
+     */
+    public boolean addIfAbsent(T t) {
+        return structuralWrite(() -> !delegate.contains(t) && delegate.add(t));
+    }
+
+    /**
+     * Atomically replaces the element at the specified position with the
+     * result of applying the function to it.
+     *
+     * @param index index of the element to replace
+     * @param function function computing the new element from the old one
+     * @return the new element
+     * @throws NullPointerException if the function is null
+     */
+    public T computeAt(int index, Function<? super T, ? extends T> function) {
+        if (function == null) throw new NullPointerException();
+        return write(() -> {
+            T computed = function.apply(delegate.get(index));
+            delegate.set(index, computed);
+            return computed;
+        });
+    }
+
+    /**
+     * Atomically removes all of the elements from this list and returns
+     * them in proper sequence.
+     *
+     * @return list of the removed elements
+     */
+    public List<T> drain() {
+        return structuralWrite(() -> {
+            List<T> drained = new ArrayListImpl<>(delegate.size());
+            drained.addAll(delegate);
+            delegate.clear();
+            return drained;
+        });
+    }
+
+    /**
+     * Performs the given action for each element of a snapshot of this list.
+     *
+     * @param action the action to be performed for each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) throw new NullPointerException();
+        snapshot().forEach(action);
+    }
+
+    /**
+     * Returns an iterator over a snapshot of this list.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return snapshot().iterator();
+    }
+
+    /**
+     * Returns a list iterator over a snapshot of this list, starting at the
+     * specified position.
+     *
+     * @param index index of the first element to be returned by next
+     * @return a list iterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        return snapshot().listIterator(index);
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified
+     * fromIndex, inclusive, and toIndex, exclusive. Every operation of the
+     * view is applied to the same range of the wrapped list under the
+     * matching lock: reads under the read lock, changes under the write
+     * lock. A structural change of this list not made through the view
+     * makes the view fail with {@link ConcurrentModificationException}.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IllegalArgumentException if an endpoint index is out of range
+     *         or fromIndex is greater than toIndex
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return read(() -> {
+            checkSubListRange(fromIndex, toIndex, delegate.size());
+            return new SubList(null, fromIndex, toIndex - fromIndex);
+        });
+    }
+
+    /**
+     * Removes from this list all of the elements whose index is between
+     * fromIndex, inclusive, and toIndex, exclusive, atomically.
+     *
+     * @param fromIndex index of first element to be removed
+     * @param toIndex index after last element to be removed
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        structuralWrite(() -> {
+            delegate.subList(fromIndex, toIndex).clear();
+            return null;
+        });
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || read(() -> delegate.equals(o));
+    }
+
+    @Override
+    public int hashCode() {
+        return read(delegate::hashCode);
+    }
+
+    @Override
+    public String toString() {
+        return read(delegate::toString);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> snapshot() {
+        return Collections.unmodifiableList((List<T>) Arrays.asList(toArray()));
+    }
+
+    /**
+     * Runs the read without locking and returns its result if no write
+     * happened meanwhile, otherwise repeats it under the read lock.
+     * Exceptions thrown by a read over inconsistent state are discarded.
+     */
+    private <R> R optimisticRead(Supplier<R> read) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                R result = read.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return read(read);
+    }
+
+    private <R> R lookup(Supplier<R> lookup) {
+        return optimisticLookup ? optimisticRead(lookup) : read(lookup);
+    }
+
+    private <R> R read(Supplier<R> read) {
+        long stamp = lock.readLock();
+        try {
+            return read.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private <R> R write(Supplier<R> write) {
+        long stamp = lock.writeLock();
+        try {
+            return write.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private <R> R structuralWrite(Supplier<R> write) {
+        long stamp = lock.writeLock();
+        try {
+            modCount++;
+            return write.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static void checkSubListRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IllegalArgumentException("invalid index");
+        }
+    }
+
+    /**
+     * View of a range of the list. It remembers the modCount of the list
+     * it was last in sync with; every operation takes the lock and fails
+     * if the list has been structurally changed since. Operations are
+     * delegated to the same range of the wrapped list, and after a change
+     * the size and expected modCount of all enclosing views are updated.
+     */
+    private class SubList extends AbstractList<T> {
+
+        private final SubList parent;
+
+        /**
+         * Index of the first element of the view in the wrapped list.
+         */
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = StampedLockList.this.modCount;
+        }
+
+        @Override
+        public int size() {
+            return readRange(List::size);
+        }
+
+        @Override
+        public T get(int index) {
+            return readRange(range -> range.get(index));
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return readRange(range -> range.indexOf(o));
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return readRange(range -> range.lastIndexOf(o));
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return readRange(List::toArray);
+        }
+
+        @Override
+        public <E> E[] toArray(E[] a) {
+            return readRange(range -> range.toArray(a));
+        }
+
+        @Override
+        public T set(int index, T element) {
+            return writeRange(false, range -> range.set(index, element));
+        }
+
+        @Override
+        public boolean add(T t) {
+            return writeRange(true, range -> range.add(t));
+        }
+
+        @Override
+        public void add(int index, T element) {
+            writeRange(true, range -> {
+                range.add(index, element);
+                return null;
+            });
+        }
+
+        @Override
+        public T remove(int index) {
+            return writeRange(true, range -> range.remove(index));
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return writeRange(true, range -> range.remove(o));
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends T> c) {
+            return writeRange(true, range -> range.addAll(c));
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends T> c) {
+            return writeRange(true, range -> range.addAll(index, c));
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            writeRange(true, range -> {
+                range.subList(fromIndex, toIndex).clear();
+                return null;
+            });
+        }
+
+        @Override
+        public void clear() {
+            writeRange(true, range -> {
+                range.clear();
+                return null;
+            });
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super T> filter) {
+            if (filter == null) throw new NullPointerException();
+            return writeRange(true, range -> range.removeIf(filter));
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            if (c == null) throw new NullPointerException();
+            return writeRange(true, range -> range.removeAll(c));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            if (c == null) throw new NullPointerException();
+            return writeRange(true, range -> range.retainAll(c));
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<T> operator) {
+            if (operator == null) throw new NullPointerException();
+            writeRange(false, range -> {
+                range.replaceAll(operator);
+                return null;
+            });
+        }
+
+        @Override
+        public void sort(Comparator<? super T> c) {
+            writeRange(true, range -> {
+                range.sort(c);
+                return null;
+            });
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return listIterator(0);
+        }
+
+        /**
+         * Returns a list iterator over a snapshot of the view, which does
+         * not support modification.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public ListIterator<T> listIterator(int index) {
+            Object[] snapshot = toArray();
+            if (index > snapshot.length || index < 0) throw new IllegalArgumentException("invalid index");
+            return Collections.unmodifiableList((List<T>) Arrays.asList(snapshot)).listIterator(index);
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            return readRange(range -> {
+                checkSubListRange(fromIndex, toIndex, size);
+                return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+            });
+        }
+
+        private <R> R readRange(Function<List<T>, R> read) {
+            return read(() -> {
+                checkForComodification();
+                return read.apply(delegate.subList(offset, offset + size));
+            });
+        }
+
+        /**
+         * Applies the change to the range of the wrapped list under the
+         * write lock and brings the view and all its enclosing views in
+         * sync with it.
+         */
+        private <R> R writeRange(boolean structural, Function<List<T>, R> edit) {
+            return write(() -> {
+                checkForComodification();
+                if (structural) {
+                    StampedLockList.this.modCount++;
+                }
+                List<T> range = delegate.subList(offset, offset + size);
+                try {
+                    return edit.apply(range);
+                } finally {
+                    int sizeChange = range.size() - size;
+                    for (SubList view = this; view != null; view = view.parent) {
+                        view.size += sizeChange;
+                        view.expectedModCount = StampedLockList.this.modCount;
+                    }
+                }
+            });
+        }
+
+        private void checkForComodification() {
+            if (StampedLockList.this.modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -0,0 +1,882 @@
+package ru.clevertec.custom_collection.my_list;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * <p>Unrolled implementation of the {@link List} and {@link Deque}
+ * interfaces.</p>
+ * <p>Unlike {@link LinkedListImpl} every node holds a small array of
+ * elements, so the per-element overhead of node headers and links is
+ * divided by the node capacity, and traversal in {@link #indexOf} or
+ * iteration mostly scans contiguous arrays.</p>
+ * <p>A full node is split when an element is inserted into it, and a node
+ * which drops below half of its capacity is merged with its successor
+ * when their elements fit into one node.</p>
+ * @param <T> the type of elements in this list
+ * @author  Olga Mailychko
+ * @see     LinkedListImpl
+ * @since   1.8
+ */
+public class UnrolledLinkedListImpl<T> extends AbstractSequentialList<T>
+        implements List<T>, Deque<T>, Cloneable, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    /**
+     * Default number of elements a node holds.
+     */
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+
+    /**
+     * Number of elements a node holds.
+     */
+    private final int nodeCapacity;
+
+    /**
+     * Current size of the list.
+     */
+    private transient int size;
+
+    /**
+     * Pointer to first node.
+     */
+    private transient Node<T> head;
+
+    /**
+     * Pointer to last node.
+     */
+    private transient Node<T> tail;
+
+    /**
+     * Constructs an empty list with the DEFAULT_NODE_CAPACITY.
+     */
+    public UnrolledLinkedListImpl() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list whose nodes hold the specified number
+     * of elements.
+     *
+     * @param nodeCapacity number of elements in a node
+     * @throws IllegalArgumentException if nodeCapacity is less than 2
+     */
+    public UnrolledLinkedListImpl(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Illegal node capacity: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this list contains no elements.
+     *
+     * @return {@code true} if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified element.
+     *
+     * @param o element whose presence in this list is to be tested
+     * @return {@code true} if this list contains the specified element
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int indexOf(Object o) {
+        int start = 0;
+        for (Node<T> node = head; node != null; node = node.nextNode) {
+            int offset = node.indexOf(o);
+            if (offset >= 0) {
+                return start + offset;
+            }
+            start += node.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int start = size;
+        for (Node<T> node = tail; node != null; node = node.previousNode) {
+            start -= node.count;
+            int offset = node.lastIndexOf(o);
+            if (offset >= 0) {
+                return start + offset;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    public T get(int index) {
+        isValidIndex(index);
+        return listIterator(index).next();
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     */
+    @Override
+    public T set(int index, T element) {
+        isValidIndex(index);
+        ListIterator<T> iterator = listIterator(index);
+        T old = iterator.next();
+        iterator.set(element);
+        return old;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     */
+    @Override
+    public T remove(int index) {
+        isValidIndex(index);
+        ListIterator<T> iterator = listIterator(index);
+        T old = iterator.next();
+        iterator.remove();
+        return old;
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    @Override
+    public void clear() {
+        Node<T> node = head;
+        while (node != null) {
+            Node<T> next = node.nextNode;
+            Arrays.fill(node.elements, 0, node.count, null);
+            node.previousNode = null;
+            node.nextNode = null;
+            node = next;
+        }
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list
+     * in proper sequence (from first to last element).
+     *
+     * @return an array containing all of the elements in this list in
+     *         proper sequence
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+        for (Node<T> node = head; node != null; node = node.nextNode) {
+            System.arraycopy(node.elements, 0, array, index, node.count);
+            index += node.count;
+        }
+        return array;
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, starting
+     * at the specified position.
+     *
+     * @param index index of the first element to be returned by next
+     * @return a list iterator starting at the specified position
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        return new ListItr(index);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in reverse order.
+     *
+     * @return an iterator over the elements in reverse order
+     */
+    @Override
+    public Iterator<T> descendingIterator() {
+        ListItr iterator = new ListItr(size);
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public T next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    // Deque operations
+    /**
+     * Inserts the specified element at the beginning of this list.
+     *
+     * @param t the element to add
+     */
+    @Override
+    public void addFirst(T t) {
+        new ListItr(0).add(t);
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param t the element to add
+     */
+    @Override
+    public void addLast(T t) {
+        new ListItr(size).add(t);
+    }
+
+    /**
+     * Inserts the specified element at the front of this list.
+     *
+     * @param t the element to insert
+     * @return {@code true}
+     */
+    @Override
+    public boolean offerFirst(T t) {
+        addFirst(t);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the end of this list.
+     *
+     * @param t the element to insert
+     * @return {@code true}
+     */
+    @Override
+    public boolean offerLast(T t) {
+        addLast(t);
+        return true;
+    }
+
+    /**
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return remove(0);
+    }
+
+    /**
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return remove(size - 1);
+    }
+
+    /**
+     * Retrieves and removes the first element of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the first element of this list, or {@code null} if
+     *         this list is empty
+     */
+    @Override
+    public T pollFirst() {
+        return size == 0 ? null : remove(0);
+    }
+
+    /**
+     * Retrieves and removes the last element of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the last element of this list, or {@code null} if
+     *         this list is empty
+     */
+    @Override
+    public T pollLast() {
+        return size == 0 ? null : remove(size - 1);
+    }
+
+    /**
+     * Returns the first element in this list.
+     *
+     * @return the first element in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T getFirst() {
+        if (head == null) throw new NoSuchElementException();
+        return head.elements[0];
+    }
+
+    /**
+     * Returns the last element in this list.
+     *
+     * @return the last element in this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T getLast() {
+        if (tail == null) throw new NoSuchElementException();
+        return tail.elements[tail.count - 1];
+    }
+
+    /**
+     * Retrieves, but does not remove, the first element of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the first element of this list, or {@code null} if
+     *         this list is empty
+     */
+    @Override
+    public T peekFirst() {
+        return head == null ? null : head.elements[0];
+    }
+
+    /**
+     * Retrieves, but does not remove, the last element of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the last element of this list, or {@code null} if
+     *         this list is empty
+     */
+    @Override
+    public T peekLast() {
+        return tail == null ? null : tail.elements[tail.count - 1];
+    }
+
+    /**
+     * Removes the first occurrence of the specified element in this
+     * list. If the list does not contain the element, it is unchanged.
+     *
+     * @param o element to be removed from this list, if present
+     * @return {@code true} if the list contained the specified element
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return remove(o);
+    }
+
+    /**
+     * Removes the last occurrence of the specified element in this
+     * list. If the list does not contain the element, it is unchanged.
+     *
+     * @param o element to be removed from this list, if present
+     * @return {@code true} if the list contained the specified element
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Adds the specified element as the tail (last element) of this list.
+     *
+     * @param t the element to add
+     * @return {@code true}
+     */
+    @Override
+    public boolean offer(T t) {
+        return offerLast(t);
+    }
+
+    /**
+     * Retrieves and removes the head (first element) of this list.
+     *
+     * @return the head of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Retrieves and removes the head (first element) of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the head of this list, or {@code null} if this list is empty
+     */
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Retrieves, but does not remove, the head (first element) of this list.
+     *
+     * @return the head of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    /**
+     * Retrieves, but does not remove, the head (first element) of this list,
+     * or returns {@code null} if this list is empty.
+     *
+     * @return the head of this list, or {@code null} if this list is empty
+     */
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Pushes an element onto the stack represented by this list.
+     *
+     * @param t the element to push
+     */
+    @Override
+    public void push(T t) {
+        addFirst(t);
+    }
+
+    /**
+     * Pops an element from the stack represented by this list.
+     *
+     * @return the element at the front of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Returns a shallow copy of this list.
+     *
+     * @return a shallow copy of this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public UnrolledLinkedListImpl<T> clone() {
+        UnrolledLinkedListImpl<T> clone;
+        try {
+            clone = (UnrolledLinkedListImpl<T>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        clone.head = clone.tail = null;
+        clone.size = 0;
+        clone.modCount = 0;
+        for (T element : this) {
+            clone.addLast(element);
+        }
+        return clone;
+    }
+
+    /**
+     * Adds passed array of objects to list.
+     *
+     * @param objects array of objects list to be initialized with
+     */
+    @SafeVarargs
+    static <T> List<T> of(T... objects) {
+        List<T> list = new UnrolledLinkedListImpl<>();
+        for (T object : objects) {
+            list.add(object);
+        }
+        return list;
+    }
+
+    private void isValidIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IllegalArgumentException("invalid index");
+        }
+    }
+
+    /**
+     * Inserts a new empty node after the specified one, or as the head
+     * when the specified node is {@code null}.
+     *
+     * @param node node to be followed by the new one
+     * @return the new node
+     */
+    private Node<T> linkAfter(Node<T> node) {
+        Node<T> newNode = new Node<>(nodeCapacity);
+        Node<T> next = node == null ? head : node.nextNode;
+        newNode.previousNode = node;
+        newNode.nextNode = next;
+        if (node == null) {
+            head = newNode;
+        } else {
+            node.nextNode = newNode;
+        }
+        if (next == null) {
+            tail = newNode;
+        } else {
+            next.previousNode = newNode;
+        }
+        return newNode;
+    }
+
+    private void unlink(Node<T> node) {
+        Node<T> previous = node.previousNode;
+        Node<T> next = node.nextNode;
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.nextNode = next;
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.previousNode = previous;
+        }
+        node.previousNode = null;
+        node.nextNode = null;
+    }
+
+    /**
+     * Saves the state of this list to a stream: the size followed by
+     * the elements in proper sequence.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        s.writeInt(size);
+        for (Node<T> node = head; node != null; node = node.nextNode) {
+            for (int i = 0; i < node.count; i++) {
+                s.writeObject(node.elements[i]);
+            }
+        }
+    }
+
+    /**
+     * Reconstitutes this list from a stream.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if the class of an element is not found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        int count = s.readInt();
+        for (int i = 0; i < count; i++) {
+            addLast((T) s.readObject());
+        }
+    }
+
+    private static class Node<T> {
+
+        final T[] elements;
+        int count;
+        Node<T> previousNode;
+        Node<T> nextNode;
+
+        @SuppressWarnings("unchecked")
+        Node(int capacity) {
+            this.elements = (T[]) new Object[capacity];
+        }
+
+        boolean isFull() {
+            return count == elements.length;
+        }
+
+        int indexOf(Object o) {
+            if (o == null) {
+                for (int i = 0; i < count; i++) {
+                    if (elements[i] == null) {
+                        return i;
+                    }
+                }
+            } else {
+                for (int i = 0; i < count; i++) {
+                    if (o.equals(elements[i])) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        int lastIndexOf(Object o) {
+            if (o == null) {
+                for (int i = count - 1; i >= 0; i--) {
+                    if (elements[i] == null) {
+                        return i;
+                    }
+                }
+            } else {
+                for (int i = count - 1; i >= 0; i--) {
+                    if (o.equals(elements[i])) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        void insert(int offset, T element) {
+            System.arraycopy(elements, offset, elements, offset + 1, count - offset);
+            elements[offset] = element;
+            count++;
+        }
+
+        void delete(int offset) {
+            System.arraycopy(elements, offset + 1, elements, offset, count - offset - 1);
+            elements[--count] = null;
+        }
+
+        /**
+         * Moves the elements from the specified offset to the beginning
+         * of the target node, which must be empty.
+         */
+        void moveTail(int from, Node<T> target) {
+            int moved = count - from;
+            System.arraycopy(elements, from, target.elements, 0, moved);
+            Arrays.fill(elements, from, count, null);
+            target.count = moved;
+            count = from;
+        }
+
+        /**
+         * Appends all elements of the source node to this one.
+         */
+        void absorb(Node<T> source) {
+            System.arraycopy(source.elements, 0, elements, count, source.count);
+            count += source.count;
+            Arrays.fill(source.elements, 0, source.count, null);
+            source.count = 0;
+        }
+    }
+
+    /**
+     * List iterator keeping its cursor as a node and an offset inside it.
+     * All structural modifications of the list go through it.
+     */
+    private class ListItr implements ListIterator<T> {
+
+        /**
+         * Node holding the element returned by next, or the node the
+         * cursor is at the end of. {@code null} only in an empty list.
+         */
+        private Node<T> node;
+        private int offset;
+        private int nextIndex;
+        private Node<T> lastNode;
+        private int lastOffset = -1;
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            nextIndex = index;
+            if (size == 0) {
+                node = null;
+            } else if (index == size) {
+                node = tail;
+                offset = tail.count;
+            } else if (index < size / 2) {
+                node = head;
+                offset = index;
+                while (offset >= node.count) {
+                    offset -= node.count;
+                    node = node.nextNode;
+                }
+            } else {
+                node = tail;
+                int start = size - node.count;
+                while (index < start) {
+                    node = node.previousNode;
+                    start -= node.count;
+                }
+                offset = index - start;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) throw new NoSuchElementException();
+            if (offset == node.count) {
+                node = node.nextNode;
+                offset = 0;
+            }
+            lastNode = node;
+            lastOffset = offset;
+            nextIndex++;
+            return node.elements[offset++];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) throw new NoSuchElementException();
+            if (offset == 0) {
+                node = node.previousNode;
+                offset = node.count;
+            }
+            lastNode = node;
+            lastOffset = --offset;
+            nextIndex--;
+            return node.elements[offset];
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastOffset < 0) throw new IllegalStateException();
+            Node<T> target = lastNode;
+            if (target == node && lastOffset < offset) {
+                offset--;
+                nextIndex--;
+            }
+            target.delete(lastOffset);
+            size--;
+            if (target.count == 0) {
+                if (node == target) {
+                    if (target.nextNode != null) {
+                        node = target.nextNode;
+                        offset = 0;
+                    } else if (target.previousNode != null) {
+                        node = target.previousNode;
+                        offset = node.count;
+                    } else {
+                        node = null;
+                        offset = 0;
+                    }
+                }
+                unlink(target);
+            } else if (target.count < nodeCapacity / 2) {
+                Node<T> next = target.nextNode;
+                if (next != null && target.count + next.count <= nodeCapacity) {
+                    if (node == next) {
+                        node = target;
+                        offset += target.count;
+                    }
+                    target.absorb(next);
+                    unlink(next);
+                }
+            }
+            lastNode = null;
+            lastOffset = -1;
+            expectedModCount = ++modCount;
+        }
+
+        @Override
+        public void set(T t) {
+            if (lastOffset < 0) throw new IllegalStateException();
+            checkForComodification();
+            lastNode.elements[lastOffset] = t;
+        }
+
+        @Override
+        public void add(T t) {
+            checkForComodification();
+            if (node == null) {
+                node = linkAfter(null);
+                offset = 0;
+            } else if (offset == 0 && node.previousNode != null && !node.previousNode.isFull()) {
+                node = node.previousNode;
+                offset = node.count;
+            } else if (node.isFull()) {
+                if (offset == node.count) {
+                    node = linkAfter(node);
+                    offset = 0;
+                } else if (offset == 0) {
+                    node = linkAfter(node.previousNode);
+                } else {
+                    int half = node.count / 2;
+                    Node<T> newNode = linkAfter(node);
+                    node.moveTail(half, newNode);
+                    if (offset > half) {
+                        node = newNode;
+                        offset -= half;
+                    }
+                }
+            }
+            node.insert(offset++, t);
+            nextIndex++;
+            size++;
+            lastNode = null;
+            lastOffset = -1;
+            expectedModCount = ++modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+}
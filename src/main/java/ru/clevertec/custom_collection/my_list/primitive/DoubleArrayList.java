@@ -0,0 +1,559 @@
+package ru.clevertec.custom_collection.my_list.primitive;
+
+import ru.clevertec.custom_collection.my_list.GrowthStrategy;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.DoubleConsumer;
+
+/**
+ * <p>Resizable list of {@code double} values backed by a {@code double[]} array.</p>
+ * <p>Values are stored unboxed, so the list needs neither wrapper objects
+ * nor pointer chasing on access. A boxed {@link List} view is available
+ * through {@link #asList()} for interop with collection APIs.</p>
+ * <p>Values are compared as by {@link Double#equals}, so {@code NaN}
+ * can be found and {@code 0.0} differs from {@code -0.0}.</p>
+ * @author  Olga Mailychko
+ * @see     ru.clevertec.custom_collection.my_list.ArrayListImpl
+ * @since   1.8
+ */
+public class DoubleArrayList implements Serializable, Cloneable {
+
+    private static final long serialVersionUID = 1L;
+    /**
+     * Default initial capacity.
+     */
+    private static final int DEFAULT_INITIAL_CAPACITY = 10;
+
+    /**
+     * Size from which {@link #sort} runs in parallel.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    /**
+     * The array buffer into which the values are stored.
+     */
+    private transient double[] data;
+
+    /**
+     * The number of values the list contains.
+     */
+    private int size;
+
+    /**
+     * The number of times this list has been structurally modified.
+     */
+    private transient int modCount;
+
+    /**
+     * The policy deciding the new capacity when the list overflows.
+     */
+    private final GrowthStrategy growthStrategy;
+
+    /**
+     * Constructs an empty list with the DEFAULT_INITIAL_CAPACITY
+     */
+    public DoubleArrayList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param  initialCapacity  the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity
+     *         is negative
+     */
+    public DoubleArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.defaultStrategy());
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity
+     * growing according to the specified strategy.
+     *
+     * @param  initialCapacity  the initial capacity of the list
+     * @param  growthStrategy  the policy used when the list overflows
+     * @throws IllegalArgumentException if the specified initial capacity
+     *         is negative
+     * @throws NullPointerException if the specified strategy is null
+     */
+    public DoubleArrayList(int initialCapacity, GrowthStrategy growthStrategy) {
+        if (growthStrategy == null) throw new NullPointerException();
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        this.data = new double[initialCapacity];
+        this.growthStrategy = growthStrategy;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this list contains no values.
+     *
+     * @return {@code true} if this list contains no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends the specified value to the end of this list.
+     *
+     * @param value value to be appended to this list
+     * @return {@code true}
+     */
+    public boolean addDouble(double value) {
+        if (size == data.length) {
+            grow(size + 1);
+        }
+        data[size++] = value;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     */
+    public void addDouble(int index, double value) {
+        if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+        if (size == data.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Returns the value at the specified position in this list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     */
+    public double getDouble(int index) {
+        checkIndex(index);
+        return data[index];
+    }
+
+    /**
+     * Replaces the value at the specified position in this list.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @return the value previously at the specified position
+     */
+    public double setDouble(int index, double value) {
+        checkIndex(index);
+        double old = data[index];
+        data[index] = value;
+        return old;
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left.
+     *
+     * @param index the index of the value to be removed
+     * @return the value that was removed from the list
+     */
+    public double removeDoubleAt(int index) {
+        checkIndex(index);
+        double old = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return index of the first occurrence or -1
+     */
+    public int indexOfDouble(double value) {
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(data[i]) == Double.doubleToLongBits(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return index of the last occurrence or -1
+     */
+    public int lastIndexOfDouble(double value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Double.doubleToLongBits(data[i]) == Double.doubleToLongBits(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be tested
+     * @return {@code true} if this list contains the specified value
+     */
+    public boolean containsDouble(double value) {
+        return indexOfDouble(value) >= 0;
+    }
+
+    /**
+     * Removes all of the values from this list. The capacity is kept.
+     */
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure
+     * that it can hold at least the number of values specified by
+     * the minimum capacity argument.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            data = Arrays.copyOf(data, minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to be the list's current size.
+     */
+    public void trimToSize() {
+        if (size < data.length) {
+            data = Arrays.copyOf(data, size);
+        }
+    }
+
+    /**
+     * Sorts this list into ascending numerical order, ordering values
+     * as {@link Arrays#sort(double[])} does. Lists of at least
+     * PARALLEL_SORT_THRESHOLD values are sorted in parallel.
+     */
+    public void sort() {
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            parallelSort();
+        } else {
+            Arrays.sort(data, 0, size);
+        }
+    }
+
+    /**
+     * Sorts this list into ascending numerical order with
+     * {@link Arrays#parallelSort(double[], int, int)} in the common pool.
+     */
+    public void parallelSort() {
+        Arrays.parallelSort(data, 0, size);
+    }
+
+    /**
+     * Returns an array containing all of the values in this list
+     * in proper sequence.
+     *
+     * @return an array containing all of the values in this list
+     */
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    /**
+     * Performs the given action for each value of this list in order.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the specified action is null
+     */
+    public void forEach(DoubleConsumer action) {
+        if (action == null) throw new NullPointerException();
+        for (int i = 0; i < size; i++) {
+            action.accept(data[i]);
+        }
+    }
+
+    /**
+     * Returns an unboxed iterator over the values in this list.
+     *
+     * @return an iterator over the values in this list in proper sequence
+     */
+    public PrimitiveIterator.OfDouble iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Returns a boxed {@link List} view of this list. Changes made through
+     * the view are reflected in this list and vice versa.
+     *
+     * @return list view backed by this list
+     */
+    public List<Double> asList() {
+        return new BoxedView();
+    }
+
+    /**
+     * Returns a shallow copy of this list.
+     *
+     * @return a clone of this list
+     */
+    @Override
+    public DoubleArrayList clone() {
+        try {
+            DoubleArrayList clone = (DoubleArrayList) super.clone();
+            clone.data = Arrays.copyOf(data, size);
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toDoubleArray());
+    }
+
+    /**
+     * Increases the capacity to ensure that it can hold at least the
+     * number of values specified by the minCapacity argument.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        data = Arrays.copyOf(data, growthStrategy.newCapacity(data.length, minCapacity));
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) throw new IllegalArgumentException("invalid index");
+    }
+
+    /**
+     * Saves the state of this list to a stream: the size and the growth
+     * strategy followed by the values in proper sequence. Unused capacity
+     * is not written.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        int expectedModCount = modCount;
+        s.defaultWriteObject();
+        for (int i = 0; i < size; i++) {
+            s.writeDouble(data[i]);
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Reconstitutes this list from a stream into a buffer of exactly
+     * the serialized size.
+     *
+     * @param s the stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if the class of the growth strategy is not found
+     */
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        if (size < 0) {
+            throw new InvalidObjectException("Illegal size: " + size);
+        }
+        data = new double[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = s.readDouble();
+        }
+    }
+
+    private class Itr implements PrimitiveIterator.OfDouble {
+
+        int cursor = 0;
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (hasNext()) {
+                return data[cursor++];
+            } else {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+
+    private class BoxedView extends AbstractList<Double> implements RandomAccess {
+
+        @Override
+        public Double get(int index) {
+            return getDouble(index);
+        }
+
+        @Override
+        public Double set(int index, Double element) {
+            return setDouble(index, element);
+        }
+
+        @Override
+        public void add(int index, Double element) {
+            addDouble(index, element);
+        }
+
+        @Override
+        public Double remove(int index) {
+            return removeDoubleAt(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Double ? indexOfDouble((Double) o) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return o instanceof Double ? lastIndexOfDouble((Double) o) : -1;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public void clear() {
+            DoubleArrayList.this.clear();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Double> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<Double> listIterator(int index) {
+            if (index > size || index < 0) throw new IllegalArgumentException("invalid index");
+            return new BoxedItr(index);
+        }
+    }
+
+    /**
+     * Iterator of the boxed view, failing fast on changes made either
+     * through the view or to this list directly.
+     */
+    private class BoxedItr implements ListIterator<Double> {
+
+        int cursor;
+        int lastRet = -1;
+        int expectedModCount = modCount;
+
+        BoxedItr(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public Double next() {
+            checkForComodification();
+            if (hasNext()) {
+                lastRet = cursor;
+                return data[cursor++];
+            } else {
+                throw new NoSuchElementException();
+            }
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor != 0;
+        }
+
+        @Override
+        public Double previous() {
+            checkForComodification();
+            if (hasPrevious()) {
+                lastRet = --cursor;
+                return data[cursor];
+            } else {
+                throw new NoSuchElementException();
+            }
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) throw new IllegalStateException();
+            checkForComodification();
+            removeDoubleAt(lastRet);
+            cursor = lastRet;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(Double value) {
+            if (lastRet < 0) throw new IllegalStateException();
+            checkForComodification();
+            setDouble(lastRet, value);
+        }
+
+        @Override
+        public void add(Double value) {
+            checkForComodification();
+            addDouble(cursor++, value);
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+}
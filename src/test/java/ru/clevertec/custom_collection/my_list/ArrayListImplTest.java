@@ -3,7 +3,11 @@ package ru.clevertec.custom_collection.my_list;
 import org.junit.jupiter.api.Test;
 import ru.clevertec.custom_collection.my_list.ArrayListImpl;
 
-import java.util.List;
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -121,4 +125,368 @@ class ArrayListImplTest {
 
         assertNotEquals("qwerty", list.get(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void add_manyElements_allElementsInOrder() {
+        ArrayListImpl<Integer> list = new ArrayListImpl<>(0);
+
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i);
+        }
+
+        assertAll(
+                () -> assertEquals(100_000, list.size()),
+                () -> assertEquals(0, list.get(0)),
+                () -> assertEquals(99_999, list.get(99_999))
+        );
+    }
+
+    @Test
+    void add_fixedChunkStrategy_capacityGrowsByChunk() {
+        ArrayListImpl<String> list = new ArrayListImpl<>(2, GrowthStrategy.fixedChunk(5));
+
+        list.add("123");
+        list.add("qwerty");
+        list.add("test");
+
+        assertEquals(7, list.capacity());
+    }
+
+    @Test
+    void add_cappedStrategyOverLimit_exception() {
+        ArrayListImpl<String> list = new ArrayListImpl<>(1,
+                GrowthStrategy.capped(GrowthStrategy.defaultStrategy(), 2));
+
+        list.add("123");
+        list.add("qwerty");
+
+        assertThrows(IllegalStateException.class, () -> list.add("test"));
+    }
+
+    @Test
+    void ensureCapacity_bigger_capacityIncreased() {
+        ArrayListImpl<String> list = new ArrayListImpl<>();
+
+        list.ensureCapacity(1000);
+
+        assertEquals(1000, list.capacity());
+    }
+
+    @Test
+    void trimToSize_withSlack_capacityEqualsSize() {
+        ArrayListImpl<String> list = new ArrayListImpl<>(100);
+        list.add("123");
+        list.add("qwerty");
+
+        list.trimToSize();
+
+        assertAll(
+                () -> assertEquals(2, list.capacity()),
+                () -> assertEquals("qwerty", list.get(1))
+        );
+    }
+
+    @Test
+    void remove_quarterShrinkPolicy_capacityTracksSize() {
+        ArrayListImpl<Integer> list = new ArrayListImpl<>(1024,
+                GrowthStrategy.defaultStrategy(), ShrinkPolicy.quarter());
+        for (int i = 0; i < 1024; i++) {
+            list.add(i);
+        }
+
+        while (list.size() > 255) {
+            list.remove(list.size() - 1);
+        }
+        int afterFirstShrink = list.capacity();
+        list.removeIf(i -> i >= 100);
+        int afterRemoveIf = list.capacity();
+        list.clear();
+
+        assertAll(
+                () -> assertEquals(512, afterFirstShrink),
+                () -> assertEquals(256, afterRemoveIf),
+                () -> assertEquals(16, list.capacity())
+        );
+    }
+
+    @Test
+    void addRemove_atShrinkBoundary_noReallocation() {
+        ArrayListImpl<Integer> list = new ArrayListImpl<>(1024,
+                GrowthStrategy.defaultStrategy(), ShrinkPolicy.quarter());
+        for (int i = 0; i < 256; i++) {
+            list.add(i);
+        }
+        list.remove(255);
+        Object[] buffer = list.elementData();
+
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+            list.remove(255);
+        }
+
+        assertAll(
+                () -> assertEquals(512, list.capacity()),
+                () -> assertSame(buffer, list.elementData()),
+                () -> assertEquals(254, list.get(254))
+        );
+    }
+
+    @Test
+    void parallelStream_manyElements_sumOfElements() {
+        List<Integer> list = new ArrayListImpl<>();
+        for (int i = 1; i <= 100_000; i++) {
+            list.add(i);
+        }
+
+        long sum = list.parallelStream().mapToLong(Integer::longValue).sum();
+
+        assertEquals(5_000_050_000L, sum);
+    }
+
+    @Test
+    void spliterator_trySplit_sizedHalves() {
+        List<Integer> list = new ArrayListImpl<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+        Spliterator<Integer> spliterator = list.spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertAll(
+                () -> assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED)),
+                () -> assertNotNull(prefix),
+                () -> assertEquals(10_000, prefix.estimateSize() + spliterator.estimateSize())
+        );
+    }
+
+    @Test
+    void iteratorRemove_evenElements_oddElementsLeft() {
+        List<Integer> list = ArrayListImpl.of(1, 2, 3, 4, 5);
+
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertIterableEquals(Arrays.asList(1, 3, 5), list);
+    }
+
+    @Test
+    void iterator_modifiedDuringIteration_exception() {
+        List<String> list = ArrayListImpl.of("123", "qwerty");
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (String s : list) {
+                list.add("test");
+            }
+        });
+    }
+
+    @Test
+    void listIterator_addAndSetAtCursor_elementsInPlace() {
+        List<String> list = ArrayListImpl.of("123", "qwerty", "dummy");
+
+        ListIterator<String> iterator = list.listIterator(1);
+        iterator.add("test");
+        iterator.next();
+        iterator.set("changed");
+
+        assertAll(
+                () -> assertIterableEquals(Arrays.asList("123", "test", "changed", "dummy"), list),
+                () -> assertEquals("changed", iterator.previous()),
+                () -> assertEquals(1, iterator.previousIndex())
+        );
+    }
+
+    @Test
+    void removeIf_evenElements_oddElementsLeftAndTailCleared() {
+        ArrayListImpl<Integer> list = new ArrayListImpl<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        assertAll(
+                () -> assertTrue(list.removeIf(i -> i % 2 == 0)),
+                () -> assertIterableEquals(Arrays.asList(1, 3, 5, 7, 9), list),
+                () -> assertNull(list.elementData()[5]),
+                () -> assertFalse(list.removeIf(i -> i > 100))
+        );
+    }
+
+    @Test
+    void removeIf_filterThrows_listUnchanged() {
+        List<Integer> list = ArrayListImpl.of(1, 2, 3, 4);
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> list.removeIf(i -> {
+                    if (i == 3) throw new IllegalStateException();
+                    return false;
+                })),
+                () -> assertIterableEquals(Arrays.asList(1, 2, 3, 4), list)
+        );
+    }
+
+    @Test
+    void removeAll_largeListArgument_matchingElementsRemoved() {
+        List<Integer> list = new ArrayListImpl<>();
+        List<Integer> toRemove = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            if (i % 3 != 0) {
+                toRemove.add(i);
+            }
+        }
+
+        assertAll(
+                () -> assertTrue(list.removeAll(toRemove)),
+                () -> assertEquals(34, list.size()),
+                () -> assertEquals(99, list.get(33))
+        );
+    }
+
+    @Test
+    void retainAll_collectionWithNull_onlyContainedElementsLeft() {
+        List<String> list = ArrayListImpl.of("123", null, "qwerty", "dummy");
+
+        assertAll(
+                () -> assertTrue(list.retainAll(Arrays.asList(null, "dummy"))),
+                () -> assertIterableEquals(Arrays.asList(null, "dummy"), list),
+                () -> assertFalse(list.retainAll(Arrays.asList(null, "dummy")))
+        );
+    }
+
+    @Test
+    void replaceAll_operator_elementsReplaced() {
+        List<String> list = ArrayListImpl.of("123", "qwerty");
+
+        list.replaceAll(String::toUpperCase);
+
+        assertIterableEquals(Arrays.asList("123", "QWERTY"), list);
+    }
+
+    @Test
+    void parallelSort_customPool_sortedStably() {
+        ArrayListImpl<int[]> list = new ArrayListImpl<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            list.add(new int[]{random.nextInt(100), i});
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            list.parallelSort(Comparator.comparingInt(pair -> pair[0]), pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 1; i < list.size(); i++) {
+            int[] previous = list.get(i - 1);
+            int[] current = list.get(i);
+            assertTrue(previous[0] < current[0] || previous[0] == current[0] && previous[1] < current[1]);
+        }
+    }
+
+    @Test
+    void parallelSort_comparatorThrows_exceptionAfterAllTasksDone() {
+        ArrayListImpl<Integer> list = new ArrayListImpl<>();
+        for (int i = 0; i < 50_000; i++) {
+            list.add(i * 7919 % 50_000);
+        }
+        AtomicInteger calls = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        try {
+            assertThrows(IllegalStateException.class, () -> list.parallelSort((a, b) -> {
+                if (calls.incrementAndGet() == 100_000) throw new IllegalStateException();
+                return Integer.compare(a, b);
+            }, pool));
+            int callsAfterFailure = calls.get();
+            assertTrue(pool.awaitQuiescence(1, TimeUnit.SECONDS));
+            assertEquals(callsAfterFailure, calls.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void sort_naturalOrder_sorted() {
+        List<String> list = ArrayListImpl.of("qwerty", "123", "dummy");
+
+        list.sort(null);
+
+        assertIterableEquals(Arrays.asList("123", "dummy", "qwerty"), list);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void serialization_listWithSlack_onlyElementsRestored() throws Exception {
+        ArrayListImpl<String> list = new ArrayListImpl<>(1000);
+        list.add("123");
+        list.add(null);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(list);
+        }
+
+        ArrayListImpl<String> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (ArrayListImpl<String>) in.readObject();
+        }
+        copy.add("qwerty");
+
+        assertAll(
+                () -> assertTrue(bytes.size() < 1000),
+                () -> assertIterableEquals(Arrays.asList("123", null, "qwerty"), copy)
+        );
+    }
+
+    @Test
+    void subList_bulkOperations_appliedToBackingRange() {
+        List<Integer> list = ArrayListImpl.of(9, 8, 7, 6, 5, 4, 3, 2, 1, 0);
+        List<Integer> window = list.subList(2, 8);
+
+        window.sort(null);
+        window.replaceAll(i -> i * 10);
+        window.removeIf(i -> i == 50);
+
+        assertAll(
+                () -> assertEquals(Arrays.asList(9, 8, 20, 30, 40, 60, 70, 1, 0), list),
+                () -> assertEquals(5, window.size()),
+                () -> assertEquals(3, window.indexOf(60)),
+                () -> assertEquals(-1, window.indexOf(9))
+        );
+    }
+
+    @Test
+    void subList_nestedViewChanged_enclosingViewsUpdated() {
+        List<String> list = ArrayListImpl.of("a", "b", "c", "d", "e", "f");
+        List<String> outer = list.subList(1, 5);
+        List<String> inner = outer.subList(1, 3);
+
+        inner.add("x");
+        inner.remove("c");
+        outer.subList(0, 1).clear();
+
+        assertAll(
+                () -> assertEquals(Arrays.asList("a", "d", "x", "e", "f"), list),
+                () -> assertEquals(Arrays.asList("d", "x", "e"), outer),
+                () -> assertEquals(4, list.lastIndexOf("f"))
+        );
+    }
+
+    @Test
+    void subList_backingListModified_throwsException() {
+        List<String> list = ArrayListImpl.of("123", "qwerty", "test");
+        List<String> view = list.subList(0, 2);
+
+        list.add("dummy");
+
+        assertAll(
+                () -> assertThrows(ConcurrentModificationException.class, view::size),
+                () -> assertThrows(ConcurrentModificationException.class, () -> view.get(0))
+        );
+    }
+}
@@ -0,0 +1,167 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BTreeListTest {
+
+    @Test
+    void add_elementsOverSeveralLevels_elementsInOrder() {
+        List<Integer> list = new BTreeList<>();
+
+        for (int i = 0; i < 100000; i++) {
+            list.add(i);
+        }
+
+        assertAll(
+                () -> assertEquals(100000, list.size()),
+                () -> assertEquals(0, list.get(0)),
+                () -> assertEquals(65432, list.get(65432)),
+                () -> assertEquals(99999, list.get(99999))
+        );
+    }
+
+    @Test
+    void get_invalidIndex_throwsException() {
+        List<String> list = new BTreeList<>(Arrays.asList("123", "qwerty"));
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> list.get(2)),
+                () -> assertThrows(IllegalArgumentException.class, () -> list.remove(-1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> list.add(3, "test"))
+        );
+    }
+
+    @Test
+    void randomOperations_comparedToArrayList_sameContents() {
+        List<Integer> list = new BTreeList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(4);
+            int value = random.nextInt();
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, value);
+                expected.add(index, value);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, value), list.set(index, value));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected.lastIndexOf(expected.get(0)), list.lastIndexOf(list.get(0)));
+    }
+
+    @Test
+    void split_middle_partsInOrder() {
+        BTreeList<Integer> list = new BTreeList<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add(i);
+        }
+
+        BTreeList<Integer> tail = list.split(4321);
+
+        assertAll(
+                () -> assertEquals(4321, list.size()),
+                () -> assertEquals(4320, list.get(4320)),
+                () -> assertEquals(5679, tail.size()),
+                () -> assertEquals(4321, tail.get(0)),
+                () -> assertEquals(9999, tail.get(5678))
+        );
+    }
+
+    @Test
+    void concat_listsOfDifferentHeights_elementsJoinedAndOtherEmpty() {
+        BTreeList<Integer> small = new BTreeList<>(Arrays.asList(-2, -1));
+        BTreeList<Integer> large = new BTreeList<>();
+        List<Integer> expected = new ArrayList<>(Arrays.asList(-2, -1));
+        for (int i = 0; i < 10000; i++) {
+            large.add(i);
+            expected.add(i);
+        }
+
+        small.concat(large);
+        small.concat(new BTreeList<>(Arrays.asList(10000)));
+        expected.add(10000);
+
+        assertAll(
+                () -> assertEquals(expected, small),
+                () -> assertTrue(large.isEmpty()),
+                () -> assertEquals(7777, small.get(7779))
+        );
+    }
+
+    @Test
+    void splitAndConcat_randomPositions_sameAsArrayList() {
+        BTreeList<Integer> list = new BTreeList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        Random random = new Random(42);
+
+        for (int i = 0; i < 300; i++) {
+            int from = random.nextInt(expected.size() + 1);
+            int to = from + random.nextInt(expected.size() - from + 1);
+            BTreeList<Integer> tail = list.split(to);
+            BTreeList<Integer> middle = list.split(from);
+            middle.concat(list);
+            middle.concat(tail);
+            list = middle;
+            List<Integer> moved = new ArrayList<>(expected.subList(from, to));
+            expected.subList(from, to).clear();
+            expected.addAll(0, moved);
+        }
+
+        assertEquals(expected, list);
+    }
+
+    @Test
+    void subListClearAndAddAll_range_elementsReplaced() {
+        List<Integer> list = new BTreeList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        list.subList(100, 900).clear();
+        list.addAll(100, Arrays.asList(-1, -2, -3));
+
+        assertAll(
+                () -> assertEquals(203, list.size()),
+                () -> assertEquals(99, list.get(99)),
+                () -> assertEquals(-1, list.get(100)),
+                () -> assertEquals(900, list.get(103)),
+                () -> assertEquals(102, list.indexOf(-3))
+        );
+    }
+
+    @Test
+    void listIterator_addRemoveWhileIterating_changesApplied() {
+        List<Integer> list = new BTreeList<>(Arrays.asList(1, 2, 3, 4, 5));
+
+        ListIterator<Integer> iterator = list.listIterator(5);
+        while (iterator.hasPrevious()) {
+            int value = iterator.previous();
+            if (value % 2 == 0) {
+                iterator.remove();
+            } else {
+                iterator.add(value * 10);
+                iterator.previous();
+            }
+        }
+
+        assertEquals(Arrays.asList(10, 1, 30, 3, 50, 5), list);
+    }
+}
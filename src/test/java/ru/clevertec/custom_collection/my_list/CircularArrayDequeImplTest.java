@@ -0,0 +1,173 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircularArrayDequeImplTest {
+
+    @Test
+    void noArgsConstructor_noArgs_emptyList() {
+        Deque<String> deque = new CircularArrayDequeImpl<>();
+
+        assertAll(
+                () -> assertTrue(deque.isEmpty()),
+                () -> assertNull(deque.pollFirst()),
+                () -> assertNull(deque.peekLast()),
+                () -> assertThrows(NoSuchElementException.class, deque::removeFirst)
+        );
+    }
+
+    @Test
+    void offerLastPollFirst_wrappedAroundBuffer_fifoOrder() {
+        CircularArrayDequeImpl<Integer> deque = new CircularArrayDequeImpl<>(4);
+        for (int i = 0; i < 3; i++) {
+            deque.offerLast(i);
+        }
+        deque.pollFirst();
+        deque.pollFirst();
+        deque.offerLast(3);
+        deque.offerLast(4);
+
+        assertAll(
+                () -> assertEquals(Arrays.asList(2, 3, 4), deque),
+                () -> assertEquals(3, deque.get(1)),
+                () -> assertEquals(2, deque.pollFirst()),
+                () -> assertEquals(4, deque.pollLast())
+        );
+    }
+
+    @Test
+    void addFirst_beyondCapacity_grownInOrder() {
+        CircularArrayDequeImpl<Integer> deque = new CircularArrayDequeImpl<>(2);
+        for (int i = 0; i < 100; i++) {
+            deque.addFirst(i);
+        }
+
+        assertAll(
+                () -> assertEquals(100, deque.size()),
+                () -> assertEquals(99, deque.getFirst()),
+                () -> assertEquals(0, deque.getLast()),
+                () -> assertEquals(49, deque.get(50))
+        );
+    }
+
+    @Test
+    void pushPop_elements_lifoOrder() {
+        Deque<String> deque = new CircularArrayDequeImpl<>();
+        deque.push("123");
+        deque.push("qwerty");
+
+        assertAll(
+                () -> assertEquals("qwerty", deque.pop()),
+                () -> assertEquals("123", deque.pop()),
+                () -> assertTrue(deque.isEmpty())
+        );
+    }
+
+    @Test
+    void get_invalidIndex_exception() {
+        List<String> list = CircularArrayDequeImpl.of("123");
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> list.get(1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> list.get(-1))
+        );
+    }
+
+    @Test
+    void removeLastOccurrence_duplicates_lastRemoved() {
+        CircularArrayDequeImpl<String> deque = new CircularArrayDequeImpl<>();
+        deque.addAll(Arrays.asList("a", null, "b", "a"));
+
+        assertAll(
+                () -> assertTrue(deque.removeLastOccurrence("a")),
+                () -> assertTrue(deque.remove(null)),
+                () -> assertFalse(deque.removeFirstOccurrence("c")),
+                () -> assertEquals(Arrays.asList("a", "b"), deque)
+        );
+    }
+
+    @Test
+    void descendingIterator_remove_elementRemoved() {
+        CircularArrayDequeImpl<Integer> deque = new CircularArrayDequeImpl<>();
+        deque.addAll(Arrays.asList(1, 2, 3));
+        Iterator<Integer> iterator = deque.descendingIterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(Arrays.asList(1, 3), deque);
+    }
+
+    @Test
+    void iterator_modifiedDuringIteration_exception() {
+        CircularArrayDequeImpl<Integer> deque = new CircularArrayDequeImpl<>();
+        deque.addAll(Arrays.asList(1, 2, 3));
+        Iterator<Integer> iterator = deque.iterator();
+        iterator.next();
+        deque.offerFirst(0);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void clone_modifiedOriginal_cloneUnchanged() {
+        CircularArrayDequeImpl<Integer> deque = new CircularArrayDequeImpl<>();
+        deque.addAll(Arrays.asList(1, 2, 3));
+        CircularArrayDequeImpl<Integer> clone = deque.clone();
+        deque.pollFirst();
+
+        assertEquals(Arrays.asList(1, 2, 3), clone);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void serialization_wrappedBuffer_sameContent() throws Exception {
+        CircularArrayDequeImpl<Integer> deque = new CircularArrayDequeImpl<>(4);
+        deque.addAll(Arrays.asList(1, 2, 3));
+        deque.pollFirst();
+        deque.addLast(4);
+        deque.addLast(5);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(deque);
+        }
+
+        Object copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = in.readObject();
+        }
+
+        assertEquals(Arrays.asList(2, 3, 4, 5), copy);
+    }
+
+    @Test
+    void randomOperations_comparedToArrayList_sameContent() {
+        CircularArrayDequeImpl<Integer> deque = new CircularArrayDequeImpl<>(2);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(6);
+            if (operation == 0) {
+                deque.addFirst(i);
+                expected.add(0, i);
+            } else if (operation == 1) {
+                deque.addLast(i);
+                expected.add(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size() + 1);
+                deque.add(index, i);
+                expected.add(index, i);
+            } else if (!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), deque.remove(index));
+            }
+        }
+
+        assertEquals(expected, deque);
+    }
+}
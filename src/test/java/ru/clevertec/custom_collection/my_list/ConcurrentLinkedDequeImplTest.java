@@ -0,0 +1,235 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentLinkedDequeImplTest {
+
+    @Test
+    void noArgsConstructor_noArgs_emptyDeque() {
+        Deque<String> deque = new ConcurrentLinkedDequeImpl<>();
+
+        assertAll(
+                () -> assertTrue(deque.isEmpty()),
+                () -> assertNull(deque.pollFirst()),
+                () -> assertNull(deque.peekLast())
+        );
+    }
+
+    @Test
+    void offerAndPoll_bothEnds_dequeOrder() {
+        Deque<String> deque = new ConcurrentLinkedDequeImpl<>();
+        deque.offerLast("b");
+        deque.offerLast("c");
+        deque.offerFirst("a");
+
+        assertAll(
+                () -> assertEquals(3, deque.size()),
+                () -> assertEquals("a", deque.peekFirst()),
+                () -> assertEquals("c", deque.peekLast()),
+                () -> assertEquals("a", deque.pollFirst()),
+                () -> assertEquals("c", deque.pollLast()),
+                () -> assertEquals("b", deque.pop()),
+                () -> assertThrows(NoSuchElementException.class, deque::removeFirst)
+        );
+    }
+
+    @Test
+    void iterator_elements_firstToLast() {
+        Deque<Integer> deque = new ConcurrentLinkedDequeImpl<>();
+        deque.addLast(2);
+        deque.addFirst(1);
+        deque.addLast(3);
+
+        List<Integer> descending = new ArrayList<>();
+        deque.descendingIterator().forEachRemaining(descending::add);
+
+        assertAll(
+                () -> assertIterableEquals(Arrays.asList(1, 2, 3), deque),
+                () -> assertEquals(Arrays.asList(3, 2, 1), descending)
+        );
+    }
+
+    @Test
+    void add_null_exception() {
+        Deque<String> deque = new ConcurrentLinkedDequeImpl<>();
+
+        assertThrows(NullPointerException.class, () -> deque.addLast(null));
+    }
+
+    @Test
+    void clear_elements_emptyDeque() {
+        Deque<String> deque = new ConcurrentLinkedDequeImpl<>();
+        deque.add("123");
+        deque.add("qwerty");
+
+        deque.clear();
+
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    void removeOccurrence_interiorAndEnds_removedFromMatchingSide() {
+        Deque<String> deque = new ConcurrentLinkedDequeImpl<>();
+        deque.addAll(Arrays.asList("a", "b", "c", "b", "d"));
+
+        assertAll(
+                () -> assertTrue(deque.removeFirstOccurrence("b")),
+                () -> assertIterableEquals(Arrays.asList("a", "c", "b", "d"), deque),
+                () -> assertTrue(deque.removeLastOccurrence("d")),
+                () -> assertTrue(deque.remove("a")),
+                () -> assertFalse(deque.remove("x")),
+                () -> assertIterableEquals(Arrays.asList("c", "b"), deque),
+                () -> assertEquals(2, deque.size()),
+                () -> assertEquals("c", deque.peekFirst()),
+                () -> assertEquals("b", deque.pollLast()),
+                () -> assertEquals("c", deque.pollLast()),
+                () -> assertTrue(deque.isEmpty()),
+                () -> assertThrows(NullPointerException.class, () -> deque.remove(null))
+        );
+    }
+
+    @Test
+    void iteratorRemove_everyOtherElement_removed() {
+        Deque<Integer> deque = new ConcurrentLinkedDequeImpl<>();
+        deque.addAll(Arrays.asList(1, 2, 3, 4, 5));
+
+        deque.removeIf(element -> element % 2 == 1);
+
+        assertAll(
+                () -> assertIterableEquals(Arrays.asList(2, 4), deque),
+                () -> assertEquals(Integer.valueOf(2), deque.pollFirst()),
+                () -> assertEquals(Integer.valueOf(4), deque.pollFirst()),
+                () -> assertNull(deque.pollFirst())
+        );
+    }
+
+    @Test
+    void removeOccurrence_concurrentPolls_eachElementRemovedOnce() throws InterruptedException {
+        Deque<Integer> deque = new ConcurrentLinkedDequeImpl<>();
+        for (int i = 0; i < 20_000; i++) {
+            deque.addLast(i);
+        }
+        Queue<Integer> removed = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < 4; t++) {
+            boolean remover = t % 2 == 0;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 20_000; i++) {
+                    if (remover) {
+                        if (deque.removeLastOccurrence(i)) {
+                            removed.add(i);
+                        }
+                    } else {
+                        Integer element = i % 2 == 0 ? deque.pollFirst() : deque.pollLast();
+                        if (element != null) {
+                            removed.add(element);
+                        }
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        Set<Integer> all = new HashSet<>(removed);
+        all.addAll(deque);
+
+        assertAll(
+                () -> assertEquals(20_000, removed.size() + deque.size()),
+                () -> assertEquals(20_000, all.size())
+        );
+    }
+
+    @Test
+    void offerAndPoll_concurrentThreads_noElementLostOrDuplicated() throws InterruptedException {
+        Deque<Integer> deque = new ConcurrentLinkedDequeImpl<>();
+        Queue<Integer> polled = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 10_000;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 10_000; i++) {
+                    if (i % 2 == 0) {
+                        deque.offerFirst(offset + i);
+                    } else {
+                        deque.offerLast(offset + i);
+                    }
+                    Integer element = i % 3 == 0 ? deque.pollLast() : deque.pollFirst();
+                    if (element != null) {
+                        polled.add(element);
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        Set<Integer> all = new HashSet<>(polled);
+        all.addAll(deque);
+
+        assertAll(
+                () -> assertEquals(40_000, polled.size() + deque.size()),
+                () -> assertEquals(40_000, all.size())
+        );
+    }
+
+    @Test
+    void pollFirst_queueTraffic_polledElementUnreachable() throws InterruptedException {
+        Deque<byte[]> deque = new ConcurrentLinkedDequeImpl<>();
+        deque.offerLast(new byte[1024]);
+        WeakReference<byte[]> first = new WeakReference<>(deque.peekFirst());
+
+        for (int i = 0; i < 1_000; i++) {
+            deque.offerLast(new byte[1024]);
+            deque.pollFirst();
+        }
+
+        assertTrue(isCollected(first));
+    }
+
+    @Test
+    void pollLast_stackTraffic_polledElementUnreachable() throws InterruptedException {
+        Deque<byte[]> deque = new ConcurrentLinkedDequeImpl<>();
+        deque.offerFirst(new byte[1024]);
+        WeakReference<byte[]> last = new WeakReference<>(deque.peekLast());
+
+        for (int i = 0; i < 1_000; i++) {
+            deque.offerFirst(new byte[1024]);
+            deque.pollLast();
+        }
+
+        assertTrue(isCollected(last));
+    }
+
+    private static boolean isCollected(WeakReference<?> reference) throws InterruptedException {
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        return reference.get() == null;
+    }
+}
@@ -0,0 +1,217 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyOnWriteArrayListImplTest {
+
+    @Test
+    void noArgsConstructor_empty_true() {
+        List<String> list = new CopyOnWriteArrayListImpl<>();
+
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void add_elements_elementsInOrder() {
+        List<String> list = new CopyOnWriteArrayListImpl<>();
+
+        list.add("123");
+        list.add("qwerty");
+        list.add(1, "test");
+
+        assertIterableEquals(Arrays.asList("123", "test", "qwerty"), list);
+    }
+
+    @Test
+    void set_elementAtPos1_previousElement() {
+        List<String> list = new CopyOnWriteArrayListImpl<>(Arrays.asList("123", "qwerty"));
+
+        assertAll(
+                () -> assertEquals("qwerty", list.set(1, "test")),
+                () -> assertEquals("test", list.get(1))
+        );
+    }
+
+    @Test
+    void remove_existingElement_removed() {
+        List<String> list = new CopyOnWriteArrayListImpl<>(Arrays.asList("123", "qwerty", "test"));
+
+        assertAll(
+                () -> assertTrue(list.remove("qwerty")),
+                () -> assertFalse(list.remove("dummy")),
+                () -> assertEquals("123", list.remove(0)),
+                () -> assertIterableEquals(Collections.singletonList("test"), list)
+        );
+    }
+
+    @Test
+    void iterator_listModifiedAfterCreation_iteratesSnapshot() {
+        List<String> list = new CopyOnWriteArrayListImpl<>(Arrays.asList("123", "qwerty"));
+
+        Iterator<String> iterator = list.iterator();
+        list.add("test");
+        list.remove(0);
+
+        assertAll(
+                () -> assertEquals("123", iterator.next()),
+                () -> assertEquals("qwerty", iterator.next()),
+                () -> assertFalse(iterator.hasNext()),
+                () -> assertThrows(UnsupportedOperationException.class, iterator::remove)
+        );
+    }
+
+    @Test
+    void mutate_severalEdits_allApplied() {
+        CopyOnWriteArrayListImpl<Integer> list = new CopyOnWriteArrayListImpl<>(Arrays.asList(3, 1, 2));
+
+        list.mutate(edits -> {
+            edits.add(0);
+            edits.remove(Integer.valueOf(3));
+            edits.sort(null);
+        });
+
+        assertIterableEquals(Arrays.asList(0, 1, 2), list);
+    }
+
+    @Test
+    void mutate_editsThrow_listUnchanged() {
+        CopyOnWriteArrayListImpl<Integer> list = new CopyOnWriteArrayListImpl<>(Arrays.asList(1, 2));
+
+        assertThrows(IllegalStateException.class, () -> list.mutate(edits -> {
+            edits.clear();
+            throw new IllegalStateException();
+        }));
+
+        assertIterableEquals(Arrays.asList(1, 2), list);
+    }
+
+    @Test
+    void addIfAbsent_existingElement_false() {
+        CopyOnWriteArrayListImpl<String> list = new CopyOnWriteArrayListImpl<>(Arrays.asList("123"));
+
+        assertAll(
+                () -> assertFalse(list.addIfAbsent("123")),
+                () -> assertTrue(list.addIfAbsent("test")),
+                () -> assertEquals(2, list.size())
+        );
+    }
+
+    @Test
+    void subList_clearAndSort_appliedToRange() {
+        List<Integer> list = new CopyOnWriteArrayListImpl<>(Arrays.asList(9, 8, 7, 6, 5, 4, 3));
+
+        list.subList(1, 3).clear();
+        list.subList(1, 5).sort(null);
+
+        assertIterableEquals(Arrays.asList(9, 3, 4, 5, 6), list);
+    }
+
+    @Test
+    void subList_bulkOperations_appliedToRange() {
+        List<Integer> list = new CopyOnWriteArrayListImpl<>(Arrays.asList(1, 2, 3, 4, 5, 6, 2));
+        List<Integer> view = list.subList(1, 6);
+
+        view.removeAll(Arrays.asList(2, 6));
+        view.retainAll(Arrays.asList(3, 4));
+        view.replaceAll(i -> i * 10);
+
+        assertAll(
+                () -> assertIterableEquals(Arrays.asList(30, 40), view),
+                () -> assertIterableEquals(Arrays.asList(1, 30, 40, 2), list)
+        );
+    }
+
+    @Test
+    void subList_nestedViewChanged_enclosingViewInSync() {
+        List<String> list = new CopyOnWriteArrayListImpl<>(Arrays.asList("a", "b", "c", "d"));
+        List<String> view = list.subList(1, 4);
+        List<String> nested = view.subList(0, 2);
+
+        nested.add(1, "x");
+        nested.remove("b");
+        view.set(0, "y");
+
+        assertAll(
+                () -> assertIterableEquals(Arrays.asList("y", "c", "d"), view),
+                () -> assertIterableEquals(Arrays.asList("a", "y", "c", "d"), list)
+        );
+    }
+
+    @Test
+    void subList_listChangedAfterCreation_exception() {
+        List<String> list = new CopyOnWriteArrayListImpl<>(Arrays.asList("a", "b", "c"));
+        List<String> view = list.subList(0, 2);
+
+        list.add("d");
+
+        assertThrows(ConcurrentModificationException.class, view::size);
+    }
+
+    @Test
+    void subList_randomEdits_sameAsArrayList() {
+        List<Integer> list = new CopyOnWriteArrayListImpl<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            int from = random.nextInt(expected.size() + 1);
+            int to = from + random.nextInt(expected.size() - from + 1);
+            List<Integer> view = list.subList(from, to);
+            List<Integer> expectedView = expected.subList(from, to);
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                view.add(i);
+                expectedView.add(i);
+            } else if (operation == 1) {
+                view.removeIf(e -> e % 3 == 0);
+                expectedView.removeIf(e -> e % 3 == 0);
+            } else if (operation == 2) {
+                view.sort(Comparator.reverseOrder());
+                expectedView.sort(Comparator.reverseOrder());
+            } else if (!expectedView.isEmpty()) {
+                view.remove(0);
+                expectedView.remove(0);
+            }
+            assertIterableEquals(expectedView, view);
+        }
+
+        assertIterableEquals(expected, list);
+    }
+
+    @Test
+    void add_concurrentWriters_noElementLost() throws InterruptedException {
+        List<Integer> list = new CopyOnWriteArrayListImpl<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 500; i++) {
+                    list.add(i);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertEquals(2_000, list.size());
+    }
+}
@@ -0,0 +1,130 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GapArrayListImplTest {
+
+    private static GapArrayListImpl<Integer> filled(int size) {
+        GapArrayListImpl<Integer> list = new GapArrayListImpl<>(2);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    void add_appendBeyondCapacity_elementsInOrder() {
+        GapArrayListImpl<Integer> list = filled(100);
+
+        assertAll(
+                () -> assertEquals(100, list.size()),
+                () -> assertEquals(0, list.get(0)),
+                () -> assertEquals(99, list.get(99))
+        );
+    }
+
+    @Test
+    void add_insertAroundMovingCursor_sameAsArrayList() {
+        GapArrayListImpl<Integer> list = filled(50);
+        List<Integer> expected = new ArrayList<>(list);
+        Random random = new Random(42);
+        int cursor = 25;
+        for (int i = 0; i < 1000; i++) {
+            cursor = Math.max(0, Math.min(expected.size(), cursor + random.nextInt(7) - 3));
+            if (random.nextBoolean() || expected.isEmpty() || cursor == expected.size()) {
+                list.add(cursor, i);
+                expected.add(cursor, i);
+            } else {
+                assertEquals(expected.remove(cursor), list.remove(cursor));
+            }
+        }
+
+        assertAll(
+                () -> assertEquals(expected, list),
+                () -> assertArrayEquals(expected.toArray(), list.toArray())
+        );
+    }
+
+    @Test
+    void get_indexAfterGap_elementReturned() {
+        GapArrayListImpl<Integer> list = filled(5);
+        list.add(1, 10);
+
+        assertAll(
+                () -> assertEquals(10, list.get(1)),
+                () -> assertEquals(1, list.get(2)),
+                () -> assertEquals(4, list.get(5))
+        );
+    }
+
+    @Test
+    void get_invalidIndex_exception() {
+        GapArrayListImpl<Integer> list = filled(3);
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> list.get(3)),
+                () -> assertThrows(IllegalArgumentException.class, () -> list.get(-1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> list.add(4, 1))
+        );
+    }
+
+    @Test
+    void set_elementAfterGap_oldElementReturned() {
+        GapArrayListImpl<Integer> list = filled(5);
+        list.remove(1);
+
+        assertAll(
+                () -> assertEquals(3, list.set(2, 30)),
+                () -> assertEquals(Arrays.asList(0, 2, 30, 4), list)
+        );
+    }
+
+    @Test
+    void indexOf_elementsOnBothSidesOfGap_positionsFound() {
+        GapArrayListImpl<String> list = new GapArrayListImpl<>();
+        list.addAll(Arrays.asList("a", "b", null, "a", "b"));
+        list.add(2, "c");
+
+        assertAll(
+                () -> assertEquals(0, list.indexOf("a")),
+                () -> assertEquals(4, list.lastIndexOf("a")),
+                () -> assertEquals(3, list.indexOf(null)),
+                () -> assertEquals(2, list.lastIndexOf("c")),
+                () -> assertFalse(list.contains("d"))
+        );
+    }
+
+    @Test
+    void clear_filledList_emptyAndReusable() {
+        GapArrayListImpl<Integer> list = filled(10);
+        list.add(3, 100);
+        list.clear();
+        list.add(7);
+
+        assertEquals(Collections.singletonList(7), list);
+    }
+
+    @Test
+    void trimToSize_gapInMiddle_elementsKept() {
+        GapArrayListImpl<Integer> list = filled(10);
+        list.add(5, 100);
+        list.trimToSize();
+        list.add(0, -1);
+
+        assertEquals(Arrays.asList(-1, 0, 1, 2, 3, 4, 100, 5, 6, 7, 8, 9), list);
+    }
+
+    @Test
+    void iterator_modifiedDuringIteration_exception() {
+        GapArrayListImpl<Integer> list = filled(3);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(0, 5);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+}
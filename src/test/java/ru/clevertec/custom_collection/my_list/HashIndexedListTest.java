@@ -0,0 +1,128 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashIndexedListTest {
+
+    @Test
+    void indexOf_duplicates_firstAndLastPositions() {
+        List<String> list = new HashIndexedList<>(Arrays.asList("123", "qwerty", "123", null));
+
+        assertAll(
+                () -> assertEquals(0, list.indexOf("123")),
+                () -> assertEquals(2, list.lastIndexOf("123")),
+                () -> assertEquals(3, list.indexOf(null)),
+                () -> assertEquals(-1, list.indexOf("dummy")),
+                () -> assertTrue(list.containsAll(Arrays.asList("qwerty", null))),
+                () -> assertFalse(list.containsAll(Arrays.asList("qwerty", "dummy")))
+        );
+    }
+
+    @Test
+    void add_atPos0_positionsRenumbered() {
+        List<String> list = new HashIndexedList<>(Arrays.asList("a", "b", "a"));
+
+        list.add(0, "b");
+
+        assertAll(
+                () -> assertEquals(0, list.indexOf("b")),
+                () -> assertEquals(2, list.lastIndexOf("b")),
+                () -> assertEquals(1, list.indexOf("a")),
+                () -> assertEquals(3, list.lastIndexOf("a"))
+        );
+    }
+
+    @Test
+    void remove_onlyOccurrence_notContained() {
+        List<String> list = new HashIndexedList<>(Arrays.asList("a", "b", "c"));
+
+        list.remove("a");
+
+        assertAll(
+                () -> assertFalse(list.contains("a")),
+                () -> assertEquals(0, list.indexOf("b")),
+                () -> assertEquals(1, list.indexOf("c"))
+        );
+    }
+
+    @Test
+    void set_replacedElement_indexUpdated() {
+        List<String> list = new HashIndexedList<>(Arrays.asList("a", "b"));
+
+        assertAll(
+                () -> assertEquals("a", list.set(0, "b")),
+                () -> assertFalse(list.contains("a")),
+                () -> assertEquals(1, list.lastIndexOf("b"))
+        );
+    }
+
+    @Test
+    void randomOperations_comparedToArrayList_sameIndexes() {
+        HashIndexedList<Integer> list = new HashIndexedList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(5);
+            int value = random.nextInt(20);
+            if (operation == 0 || expected.isEmpty()) {
+                list.add(value);
+                expected.add(value);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, value);
+                expected.add(index, value);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, value), list.set(index, value));
+            } else {
+                assertEquals(expected.remove((Integer) value), list.remove((Integer) value));
+            }
+        }
+
+        assertEquals(expected, list);
+        for (int value = 0; value < 20; value++) {
+            assertEquals(expected.indexOf(value), list.indexOf(value));
+            assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+        }
+    }
+
+    @Test
+    void removeIfAndSort_rebuiltIndex_positionsMatch() {
+        List<Integer> list = new HashIndexedList<>(Arrays.asList(5, 1, 4, 1, 3));
+
+        list.removeIf(i -> i == 4);
+        list.sort(null);
+
+        assertAll(
+                () -> assertEquals(Arrays.asList(1, 1, 3, 5), list),
+                () -> assertEquals(1, list.lastIndexOf(1)),
+                () -> assertEquals(3, list.indexOf(5)),
+                () -> assertFalse(list.contains(4))
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void serialization_list_indexRebuilt() throws Exception {
+        List<String> list = new HashIndexedList<>(Arrays.asList("123", "qwerty"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(list);
+        }
+
+        List<String> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (List<String>) in.readObject();
+        }
+
+        assertEquals(1, copy.indexOf("qwerty"));
+    }
+}
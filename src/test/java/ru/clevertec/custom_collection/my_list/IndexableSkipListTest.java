@@ -0,0 +1,146 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexableSkipListTest {
+
+    @Test
+    void add_manyElements_elementsInOrder() {
+        List<Integer> list = new IndexableSkipList<>();
+
+        for (int i = 0; i < 10000; i++) {
+            list.add(i);
+        }
+
+        assertAll(
+                () -> assertEquals(10000, list.size()),
+                () -> assertEquals(0, list.get(0)),
+                () -> assertEquals(5731, list.get(5731)),
+                () -> assertEquals(9999, list.get(9999))
+        );
+    }
+
+    @Test
+    void add_atPos0_elementsShifted() {
+        List<String> list = new IndexableSkipList<>(Arrays.asList("123", "qwerty"));
+
+        list.add(0, "test");
+
+        assertAll(
+                () -> assertEquals(Arrays.asList("test", "123", "qwerty"), list),
+                () -> assertEquals("qwerty", list.get(2))
+        );
+    }
+
+    @Test
+    void get_invalidIndex_throwsException() {
+        List<String> list = new IndexableSkipList<>(Arrays.asList("123", "qwerty"));
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> list.get(2)),
+                () -> assertThrows(IllegalArgumentException.class, () -> list.remove(-1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> list.add(3, "test"))
+        );
+    }
+
+    @Test
+    void randomOperations_comparedToArrayList_sameContents() {
+        List<Integer> list = new IndexableSkipList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(4);
+            int value = random.nextInt();
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, value);
+                expected.add(index, value);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, value), list.set(index, value));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected.size(), list.size());
+    }
+
+    @Test
+    void listIterator_addRemoveWhileIterating_changesApplied() {
+        List<Integer> list = new IndexableSkipList<>(Arrays.asList(1, 2, 3, 4, 5));
+
+        ListIterator<Integer> iterator = list.listIterator(5);
+        while (iterator.hasPrevious()) {
+            int value = iterator.previous();
+            if (value % 2 == 0) {
+                iterator.remove();
+            } else {
+                iterator.add(value * 10);
+                iterator.previous();
+            }
+        }
+
+        assertEquals(Arrays.asList(10, 1, 30, 3, 50, 5), list);
+    }
+
+    @Test
+    void iterator_modifiedList_throwsException() {
+        List<String> list = new IndexableSkipList<>(Arrays.asList("123", "qwerty"));
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+
+        list.add("test");
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void clear_filledList_emptyAndReusable() {
+        List<Integer> list = new IndexableSkipList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        list.clear();
+        list.add(7);
+        list.add(0, 6);
+
+        assertAll(
+                () -> assertEquals(Arrays.asList(6, 7), list),
+                () -> assertEquals(1, list.lastIndexOf(7)),
+                () -> assertEquals(-1, list.indexOf(500))
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void serialization_list_equalCopy() throws Exception {
+        List<String> list = new IndexableSkipList<>(Arrays.asList("123", null, "qwerty"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(list);
+        }
+
+        List<String> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (List<String>) in.readObject();
+        }
+        copy.add(1, "test");
+
+        assertEquals(Arrays.asList("123", "test", null, "qwerty"), copy);
+    }
+}
@@ -4,9 +4,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import ru.clevertec.custom_collection.my_list.LinkedListImpl;
 
-import java.util.Deque;
-import java.util.LinkedList;
-import java.util.List;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -173,4 +174,434 @@ class LinkedListImplTest {
 
         assertNotEquals("qwerty", list.get(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void parallelStream_manyElements_sumOfElements() {
+        List<Integer> list = new LinkedListImpl<>();
+        for (int i = 1; i <= 100_000; i++) {
+            list.add(i);
+        }
+
+        long sum = list.parallelStream().mapToLong(Integer::longValue).sum();
+
+        assertEquals(5_000_050_000L, sum);
+    }
+
+    @Test
+    void spliterator_trySplit_sizedHalves() {
+        List<Integer> list = new LinkedListImpl<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+        Spliterator<Integer> spliterator = list.spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertAll(
+                () -> assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED)),
+                () -> assertNotNull(prefix),
+                () -> assertEquals(10_000, prefix.estimateSize() + spliterator.estimateSize())
+        );
+    }
+
+    @Test
+    void iteratorRemove_evenElements_oddElementsLeft() {
+        List<Integer> list = LinkedListImpl.of(1, 2, 3, 4, 5);
+
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertIterableEquals(Arrays.asList(1, 3, 5), list);
+    }
+
+    @Test
+    void iterator_modifiedDuringIteration_exception() {
+        List<String> list = LinkedListImpl.of("123", "qwerty");
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (String s : list) {
+                list.add("test");
+            }
+        });
+    }
+
+    @Test
+    void listIterator_addAndSetAtCursor_elementsInPlace() {
+        List<String> list = LinkedListImpl.of("123", "qwerty", "dummy");
+
+        ListIterator<String> iterator = list.listIterator(1);
+        iterator.add("test");
+        iterator.next();
+        iterator.set("changed");
+
+        assertAll(
+                () -> assertIterableEquals(Arrays.asList("123", "test", "changed", "dummy"), list),
+                () -> assertEquals("changed", iterator.previous()),
+                () -> assertEquals(1, iterator.previousIndex())
+        );
+    }
+
+    @Test
+    void pollFirst_singleElement_emptyList() {
+        Deque<String> deque = new LinkedListImpl<>();
+        deque.offer("123");
+
+        assertAll(
+                () -> assertEquals("123", deque.pollFirst()),
+                () -> assertTrue(deque.isEmpty()),
+                () -> assertNull(deque.pollFirst()),
+                () -> assertNull(deque.peek())
+        );
+    }
+
+    @Test
+    void pushPop_elements_lifoOrder() {
+        Deque<String> deque = new LinkedListImpl<>();
+        deque.push("123");
+        deque.push("qwerty");
+
+        assertAll(
+                () -> assertEquals("qwerty", deque.pop()),
+                () -> assertEquals("123", deque.pop()),
+                () -> assertEquals(0, deque.size())
+        );
+    }
+
+    @Test
+    void descendingIterator_elements_reverseOrder() {
+        LinkedListImpl<String> list = new LinkedListImpl<>();
+        list.addAll(Arrays.asList("123", "qwerty", "test"));
+
+        Iterator<String> iterator = list.descendingIterator();
+
+        assertAll(
+                () -> assertEquals("test", iterator.next()),
+                () -> assertEquals("qwerty", iterator.next()),
+                () -> assertEquals("123", iterator.next()),
+                () -> assertFalse(iterator.hasNext())
+        );
+    }
+
+    @Test
+    void removeAll_existingElements_removedFromList() {
+        List<String> list = LinkedListImpl.of("123", "qwerty", "test", "qwerty");
+
+        list.removeAll(Arrays.asList("qwerty", "dummy"));
+
+        assertIterableEquals(Arrays.asList("123", "test"), list);
+    }
+
+    @Test
+    void sort_shuffledElements_sortedAndLinkedBothWays() {
+        LinkedListImpl<Integer> list = new LinkedListImpl<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            int element = random.nextInt(100);
+            list.add(element);
+            expected.add(element);
+        }
+        Collections.sort(expected);
+
+        list.sort(null);
+        List<Integer> backwards = new ArrayList<>();
+        list.descendingIterator().forEachRemaining(backwards::add);
+        Collections.reverse(backwards);
+
+        assertAll(
+                () -> assertIterableEquals(expected, list),
+                () -> assertIterableEquals(expected, backwards),
+                () -> assertEquals(0, list.peekFirst()),
+                () -> assertEquals(99, list.peekLast()),
+                () -> assertEquals(1000, list.size())
+        );
+    }
+
+    @Test
+    void sort_equalKeys_stableOrder() {
+        List<String> list = LinkedListImpl.of("b1", "a1", "b2", "a2", "c1", "a3");
+
+        list.sort(Comparator.comparing(s -> s.charAt(0)));
+
+        assertIterableEquals(Arrays.asList("a1", "a2", "a3", "b1", "b2", "c1"), list);
+    }
+
+    @Test
+    void sort_reversedRuns_sortedAndAppendable() {
+        LinkedListImpl<String> list = new LinkedListImpl<>();
+        list.addAll(Arrays.asList("d", "c", "b", "a"));
+
+        list.sort(Comparator.naturalOrder());
+        list.addLast("e");
+        list.addFirst("0");
+
+        assertIterableEquals(Arrays.asList("0", "a", "b", "c", "d", "e"), list);
+    }
+
+    @Test
+    void sort_comparatorThrows_noElementLost() {
+        List<Integer> list = LinkedListImpl.of(5, 3, 9, 1, 7, 2);
+        int[] calls = {0};
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> list.sort((a, b) -> {
+                    if (++calls[0] == 4) throw new IllegalStateException();
+                    return Integer.compare(a, b);
+                })),
+                () -> assertEquals(6, list.size()),
+                () -> assertTrue(list.containsAll(Arrays.asList(1, 2, 3, 5, 7, 9)))
+        );
+    }
+
+    @Test
+    void sort_comparatorThrows_openIteratorFailsFast() {
+        List<Integer> list = LinkedListImpl.of(5, 3, 9, 1, 7, 2);
+        Iterator<Integer> iterator = list.iterator();
+        int[] calls = {0};
+
+        assertThrows(IllegalStateException.class, () -> list.sort((a, b) -> {
+            if (++calls[0] == 4) throw new IllegalStateException();
+            return Integer.compare(a, b);
+        }));
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void serialization_longList_restoredInOrder() throws Exception {
+        LinkedListImpl<Integer> list = new LinkedListImpl<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(list);
+        }
+
+        LinkedListImpl<Integer> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (LinkedListImpl<Integer>) in.readObject();
+        }
+
+        assertAll(
+                () -> assertEquals(100_000, copy.size()),
+                () -> assertEquals(0, copy.peekFirst()),
+                () -> assertEquals(99_999, copy.peekLast()),
+                () -> assertEquals(list, copy)
+        );
+    }
+
+    @Test
+    void get_sequentialAfterStructuralChanges_elementsInOrder() {
+        LinkedListImpl<Integer> list = new LinkedListImpl<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+
+        list.get(50);
+        list.add(10, -1);
+        expected.add(10, -1);
+        list.get(60);
+        list.addFirst(-2);
+        expected.add(0, -2);
+        list.remove(30);
+        expected.remove(30);
+        list.get(70);
+        list.removeFirst();
+        expected.remove(0);
+        list.removeLast();
+        expected.remove(expected.size() - 1);
+        list.remove(Integer.valueOf(80));
+        expected.remove(Integer.valueOf(80));
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        for (int i = expected.size() - 1; i >= 0; i -= 3) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    void set_afterSortAndClear_fingerReset() {
+        LinkedListImpl<Integer> list = new LinkedListImpl<>();
+        list.addAll(Arrays.asList(3, 1, 2));
+        list.get(2);
+
+        list.sort(null);
+        list.set(2, 30);
+        list.clear();
+        list.add(5);
+
+        assertAll(
+                () -> assertEquals(5, list.get(0)),
+                () -> assertEquals(1, list.size())
+        );
+    }
+
+    @Test
+    void subList_bulkOperations_appliedToBackingNodes() {
+        LinkedListImpl<Integer> list = new LinkedListImpl<>();
+        list.addAll(Arrays.asList(9, 8, 7, 6, 5, 4, 3, 2, 1, 0));
+        List<Integer> window = list.subList(2, 8);
+
+        window.sort(null);
+        window.replaceAll(i -> i * 10);
+        window.subList(1, 3).clear();
+
+        assertAll(
+                () -> assertEquals(Arrays.asList(9, 8, 20, 50, 60, 70, 1, 0), list),
+                () -> assertEquals(4, window.size()),
+                () -> assertEquals(2, window.indexOf(60)),
+                () -> assertEquals(3, window.lastIndexOf(70)),
+                () -> assertEquals(0, list.getLast())
+        );
+    }
+
+    @Test
+    void subList_iteratorAddRemove_enclosingViewsUpdated() {
+        LinkedListImpl<String> list = new LinkedListImpl<>();
+        list.addAll(Arrays.asList("a", "b", "c", "d", "e"));
+        List<String> outer = list.subList(1, 4);
+        List<String> inner = outer.subList(1, 3);
+
+        ListIterator<String> iterator = inner.listIterator();
+        iterator.next();
+        iterator.remove();
+        iterator.next();
+        iterator.add("x");
+        boolean atEnd = !iterator.hasNext();
+        inner.add("y");
+
+        assertAll(
+                () -> assertEquals(Arrays.asList("a", "b", "d", "x", "y", "e"), list),
+                () -> assertEquals(Arrays.asList("b", "d", "x", "y"), outer),
+                () -> assertTrue(atEnd)
+        );
+    }
+
+    @Test
+    void subList_backingListModified_throwsException() {
+        LinkedListImpl<String> list = new LinkedListImpl<>();
+        list.addAll(Arrays.asList("123", "qwerty", "test"));
+        List<String> view = list.subList(1, 3);
+
+        list.removeFirst();
+
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+    }
+
+    @Test
+    void offerPoll_pooledList_nodeReused() {
+        LinkedListImpl<String> list = new LinkedListImpl<>(4);
+        list.offer("123");
+        Object node = list.getHead();
+
+        list.poll();
+        list.offer("qwerty");
+
+        assertAll(
+                () -> assertSame(node, list.getHead()),
+                () -> assertEquals("qwerty", list.peek()),
+                () -> assertEquals(1, list.size())
+        );
+    }
+
+    @Test
+    void randomOperations_pooledList_sameAsLinkedList() {
+        LinkedListImpl<Integer> list = new LinkedListImpl<>(8);
+        Deque<Integer> expected = new LinkedList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(5);
+            if (operation == 0) {
+                list.offer(i);
+                expected.offer(i);
+            } else if (operation == 1) {
+                list.push(i);
+                expected.push(i);
+            } else if (operation == 2) {
+                assertEquals(expected.poll(), list.poll());
+            } else if (operation == 3) {
+                assertEquals(expected.pollLast(), list.pollLast());
+            } else if (!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(new ArrayList<>(expected).get(index), list.get(index));
+            }
+        }
+
+        assertIterableEquals(expected, list);
+    }
+
+    @Test
+    void offerPoll_pooledListWithFinger_allocatesNothing() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        LinkedListImpl<String> list = new LinkedListImpl<>(16);
+        for (int i = 0; i < 10; i++) {
+            list.offer("123");
+        }
+        list.get(5);
+        for (int i = 0; i < 100_000; i++) {
+            list.offerLast("qwerty");
+            list.pollFirst();
+            list.push("qwerty");
+            list.pop();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            list.offerLast("qwerty");
+            list.pollFirst();
+            list.push("qwerty");
+            list.pop();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < 100_000, allocated + " bytes allocated");
+    }
+
+    @Test
+    void get_concurrentReaders_elementsAtTheirIndexes() throws Exception {
+        LinkedListImpl<Integer> list = new LinkedListImpl<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add(i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int seed = t;
+            results.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                int wrong = 0;
+                start.await();
+                for (int i = 0; i < 200000; i++) {
+                    int index = (seed * 1250 + i % 1250 + random.nextInt(3)) % 10000;
+                    if (list.get(index) != index) {
+                        wrong++;
+                    }
+                }
+                return wrong;
+            }));
+        }
+
+        start.countDown();
+        int wrong = 0;
+        for (Future<Integer> result : results) {
+            wrong += result.get();
+        }
+        executor.shutdown();
+
+        assertEquals(0, wrong);
+    }
+}
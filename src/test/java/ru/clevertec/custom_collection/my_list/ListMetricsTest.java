@@ -0,0 +1,117 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ListMetricsTest {
+
+    private final ListMetrics metrics = ListMetrics.getInstance();
+
+    @AfterEach
+    void tearDown() {
+        metrics.reset();
+    }
+
+    @Test
+    void bucketOf_values_powerOfTwoBuckets() {
+        assertAll(
+                () -> assertEquals(0, ListMetrics.bucketOf(0)),
+                () -> assertEquals(1, ListMetrics.bucketOf(1)),
+                () -> assertEquals(2, ListMetrics.bucketOf(3)),
+                () -> assertEquals(3, ListMetrics.bucketOf(4)),
+                () -> assertEquals(31, ListMetrics.bucketOf(Integer.MAX_VALUE))
+        );
+    }
+
+    @Test
+    void recordTraversal_hops_countersAndHistogramUpdated() {
+        metrics.reset();
+
+        ListMetrics.recordTraversal(0);
+        ListMetrics.recordTraversal(5);
+        ListMetrics.recordTraversal(7);
+
+        long[] histogram = metrics.getTraversalHistogram();
+        assertAll(
+                () -> assertEquals(3, metrics.getTraversalCount()),
+                () -> assertEquals(12, metrics.getTraversalHops()),
+                () -> assertEquals(4.0, metrics.getMeanTraversalHops()),
+                () -> assertEquals(1, histogram[0]),
+                () -> assertEquals(2, histogram[3])
+        );
+    }
+
+    @Test
+    void recordReallocationAndCopy_sizes_bytesCounted() {
+        metrics.reset();
+
+        ListMetrics.recordReallocation(new ArrayListImpl<>(), 10, 16);
+        ListMetrics.recordCopy(100);
+
+        assertAll(
+                () -> assertEquals(1, metrics.getGrowCount()),
+                () -> assertEquals(64, metrics.getReallocatedBytes()),
+                () -> assertEquals(1, metrics.getCopyCount()),
+                () -> assertEquals(400, metrics.getCopiedBytes()),
+                () -> assertEquals(1, metrics.getCopyHistogram()[7])
+        );
+    }
+
+    @Test
+    void add_arrayListGrowsAndShifts_hooksRecorded() {
+        assumeTrue(ListMetrics.isEnabled());
+        ArrayListImpl<Integer> list = new ArrayListImpl<>();
+        metrics.reset();
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+
+        assertAll(
+                () -> assertTrue(metrics.getGrowCount() > 0),
+                () -> assertTrue(metrics.getReallocatedBytes() >= 400),
+                () -> assertEquals(1, metrics.getCopyCount()),
+                () -> assertEquals(400, metrics.getCopiedBytes())
+        );
+    }
+
+    @Test
+    void get_linkedListLookup_traversalRecorded() {
+        assumeTrue(ListMetrics.isEnabled());
+        LinkedListImpl<Integer> list = new LinkedListImpl<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        metrics.reset();
+
+        list.get(40);
+
+        assertAll(
+                () -> assertEquals(1, metrics.getTraversalCount()),
+                () -> assertEquals(40, metrics.getTraversalHops())
+        );
+    }
+
+    @Test
+    void register_mBeanServer_attributesReadable() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ListMetrics.recordTraversal(2);
+
+        boolean registered = ListMetrics.register(server);
+        Object count = server.getAttribute(new ObjectName(ListMetrics.OBJECT_NAME), "TraversalCount");
+
+        assertAll(
+                () -> assertTrue(registered),
+                () -> assertFalse(ListMetrics.register(server)),
+                () -> assertEquals(metrics.getTraversalCount(), count)
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListSnapshotTest {
+
+    private static byte[] write(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int indexOf(byte[] bytes, byte[] sequence) {
+        for (int i = 0; i + sequence.length <= bytes.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + sequence.length), sequence)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Sequence not found");
+    }
+
+    private static Object read(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readExternal_arrayListOfIntegers_presizedArrayList() throws Exception {
+        ArrayListImpl<Integer> list = new ArrayListImpl<>(100);
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        ListSnapshot<Integer> copy = (ListSnapshot<Integer>) read(write(new ListSnapshot<>(list)));
+
+        assertAll(
+                () -> assertTrue(copy.getList() instanceof ArrayListImpl),
+                () -> assertEquals(Arrays.asList(1, 2, 3), copy.getList()),
+                () -> assertEquals(3, ((ArrayListImpl<Integer>) copy.getList()).capacity())
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readExternal_linkedListWithNulls_linkedList() throws Exception {
+        List<String> list = LinkedListImpl.of("123", null, "qwerty");
+
+        ListSnapshot<String> copy = (ListSnapshot<String>) read(write(new ListSnapshot<>(list)));
+
+        assertAll(
+                () -> assertTrue(copy.getList() instanceof LinkedListImpl),
+                () -> assertEquals(Arrays.asList("123", null, "qwerty"), copy.getList())
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readExternal_arrayListWithPolicies_policiesRestored() throws Exception {
+        ArrayListImpl<Integer> list = new ArrayListImpl<>(10, GrowthStrategy.fixedChunk(100), ShrinkPolicy.quarter());
+        list.add(1);
+        list.add(2);
+
+        ArrayListImpl<Integer> copy = (ArrayListImpl<Integer>)
+                ((ListSnapshot<Integer>) read(write(new ListSnapshot<>(list)))).getList();
+        copy.add(3);
+
+        assertAll(
+                () -> assertEquals(Arrays.asList(1, 2, 3), copy),
+                () -> assertEquals(102, copy.capacity()),
+                () -> assertNotNull(copy.shrinkPolicy())
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readExternal_linkedListWithPool_poolCapacityRestored() throws Exception {
+        LinkedListImpl<String> list = new LinkedListImpl<>(16);
+        list.add("123");
+
+        ListSnapshot<String> copy = (ListSnapshot<String>) read(write(new ListSnapshot<>(list)));
+
+        assertEquals(16, ((LinkedListImpl<String>) copy.getList()).poolCapacity());
+    }
+
+    @Test
+    void writeExternal_longValues_smallerThanDefaultSerialization() throws Exception {
+        ArrayListImpl<Long> list = new ArrayListImpl<>();
+        for (long i = 0; i < 1000; i++) {
+            list.add(i * 1_000_000_007L);
+        }
+
+        byte[] snapshot = write(new ListSnapshot<>(list));
+
+        assertAll(
+                () -> assertTrue(snapshot.length < write(list).length),
+                () -> assertEquals(list, ((ListSnapshot<?>) read(snapshot)).getList())
+        );
+    }
+
+    @Test
+    void readExternal_wrongMagic_exception() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            new ListSnapshot<>(new ArrayListImpl<>()).writeExternal(out);
+        }
+        byte[] corrupted = bytes.toByteArray();
+        corrupted[indexOf(corrupted, "LSNP".getBytes(StandardCharsets.US_ASCII))] ^= 1;
+
+        assertThrows(InvalidObjectException.class, () -> {
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(corrupted))) {
+                new ListSnapshot<>().readExternal(in);
+            }
+        });
+    }
+}
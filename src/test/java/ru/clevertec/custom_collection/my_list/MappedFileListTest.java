@@ -0,0 +1,129 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileListTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void add_elementsOverSeveralRegions_elementsInOrder() throws IOException {
+        try (MappedFileList<Integer> list = new MappedFileList<>(directory.resolve("ints.lst"), ElementCodec.ofInt(), 4)) {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            assertAll(
+                    () -> assertEquals(10, list.size()),
+                    () -> assertEquals(0, list.get(0)),
+                    () -> assertEquals(5, list.get(5)),
+                    () -> assertEquals(9, list.get(9))
+            );
+        }
+    }
+
+    @Test
+    void reopen_closedList_elementsRestored() throws IOException {
+        Path file = directory.resolve("longs.lst");
+        try (MappedFileList<Long> list = new MappedFileList<>(file, ElementCodec.ofLong(), 2)) {
+            list.addAll(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+            list.remove(1);
+            list.add(0, 0L);
+            list.force();
+        }
+
+        try (MappedFileList<Long> reopened = new MappedFileList<>(file, ElementCodec.ofLong(), 8)) {
+            reopened.add(6L);
+
+            assertEquals(Arrays.asList(0L, 1L, 3L, 4L, 5L, 6L), reopened);
+        }
+    }
+
+    @Test
+    void addAndRemove_randomIndexesOverRegions_sameAsArrayListAfterReopen() throws IOException {
+        Path file = directory.resolve("longs.lst");
+        List<Long> expected = new ArrayList<>();
+        Random random = new Random(42);
+        try (MappedFileList<Long> list = new MappedFileList<>(file, ElementCodec.ofLong(), 4)) {
+            for (int i = 0; i < 2_000; i++) {
+                if (expected.isEmpty() || random.nextInt(3) > 0) {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, (long) i);
+                    expected.add(index, (long) i);
+                } else {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.remove(index));
+                }
+            }
+        }
+
+        try (MappedFileList<Long> reopened = new MappedFileList<>(file, ElementCodec.ofLong(), 4)) {
+            assertIterableEquals(expected, reopened);
+        }
+    }
+
+    @Test
+    void reopen_differentWidth_exception() throws IOException {
+        Path file = directory.resolve("ints.lst");
+        try (MappedFileList<Integer> list = new MappedFileList<>(file, ElementCodec.ofInt())) {
+            list.add(1);
+        }
+
+        assertThrows(IOException.class, () -> new MappedFileList<>(file, ElementCodec.ofLong()));
+    }
+
+    @Test
+    void open_foreignFile_exceptionAndFileUnchanged() throws IOException {
+        Path file = directory.resolve("foreign.txt");
+        Files.write(file, "not a list".getBytes());
+
+        assertAll(
+                () -> assertThrows(IOException.class, () -> new MappedFileList<>(file, ElementCodec.ofInt())),
+                () -> assertEquals(10, Files.size(file))
+        );
+    }
+
+    @Test
+    void clear_reopened_emptyList() throws IOException {
+        Path file = directory.resolve("doubles.lst");
+        try (MappedFileList<Double> list = new MappedFileList<>(file, ElementCodec.ofDouble())) {
+            list.add(1.5);
+            list.clear();
+        }
+
+        try (MappedFileList<Double> reopened = new MappedFileList<>(file, ElementCodec.ofDouble())) {
+            assertTrue(reopened.isEmpty());
+        }
+    }
+
+    @Test
+    void get_closedList_exception() throws IOException {
+        MappedFileList<Integer> list = new MappedFileList<>(directory.resolve("ints.lst"), ElementCodec.ofInt());
+        list.add(1);
+        list.close();
+
+        assertAll(
+                () -> assertTrue(list.isClosed()),
+                () -> assertThrows(IllegalStateException.class, () -> list.get(0))
+        );
+    }
+
+    @Test
+    void add_nullElement_exception() throws IOException {
+        try (MappedFileList<Integer> list = new MappedFileList<>(directory.resolve("ints.lst"), ElementCodec.ofInt())) {
+            assertThrows(NullPointerException.class, () -> list.add(null));
+        }
+    }
+}
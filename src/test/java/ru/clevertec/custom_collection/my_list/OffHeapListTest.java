@@ -0,0 +1,191 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapListTest {
+
+    @Test
+    void add_elementsOverSeveralChunks_elementsInOrder() {
+        try (OffHeapList<Integer> list = new OffHeapList<>(ElementCodec.ofInt(), 4)) {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            assertAll(
+                    () -> assertEquals(10, list.size()),
+                    () -> assertEquals(0, list.get(0)),
+                    () -> assertEquals(5, list.get(5)),
+                    () -> assertEquals(9, list.get(9))
+            );
+        }
+    }
+
+    @Test
+    void add_atPos1_elementsShifted() {
+        try (OffHeapList<Long> list = new OffHeapList<>(ElementCodec.ofLong(), 2)) {
+            list.add(1L);
+            list.add(2L);
+            list.add(3L);
+
+            list.add(1, 42L);
+
+            assertIterableEquals(ArrayListImpl.of(1L, 42L, 2L, 3L), list);
+        }
+    }
+
+    @Test
+    void remove_existingIndex_removedElement() {
+        try (OffHeapList<Double> list = new OffHeapList<>(ElementCodec.ofDouble(), 2)) {
+            list.add(1.5);
+            list.add(2.5);
+            list.add(3.5);
+
+            assertAll(
+                    () -> assertEquals(2.5, list.remove(1)),
+                    () -> assertIterableEquals(ArrayListImpl.of(1.5, 3.5), list)
+            );
+        }
+    }
+
+    @Test
+    void set_elementAtPos1_previousElement() {
+        try (OffHeapList<Integer> list = new OffHeapList<>(ElementCodec.ofInt())) {
+            list.add(1);
+            list.add(2);
+
+            assertAll(
+                    () -> assertEquals(2, list.set(1, 7)),
+                    () -> assertEquals(7, list.get(1))
+            );
+        }
+    }
+
+    @Test
+    void add_null_exception() {
+        try (OffHeapList<Integer> list = new OffHeapList<>(ElementCodec.ofInt())) {
+            assertThrows(NullPointerException.class, () -> list.add(null));
+        }
+    }
+
+    @Test
+    void addAndRemove_randomIndexesOverChunks_sameAsArrayList() {
+        try (OffHeapList<Long> list = new OffHeapList<>(ElementCodec.ofLong(), 4)) {
+            List<Long> expected = new ArrayList<>();
+            Random random = new Random(42);
+
+            for (int i = 0; i < 2_000; i++) {
+                if (expected.isEmpty() || random.nextInt(3) > 0) {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, (long) i);
+                    expected.add(index, (long) i);
+                } else {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.remove(index));
+                }
+            }
+
+            assertIterableEquals(expected, list);
+        }
+    }
+
+    @Test
+    void constructor_zeroWidthCodec_exception() {
+        ElementCodec<Integer> codec = new ElementCodec<Integer>() {
+            @Override
+            public int width() {
+                return 0;
+            }
+
+            @Override
+            public void encode(Integer element, ByteBuffer target, int offset) {
+            }
+
+            @Override
+            public Integer decode(ByteBuffer source, int offset) {
+                return 0;
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapList<>(codec));
+    }
+
+    @Test
+    void exportBuffers_elements_buffersLimitedToElements() {
+        try (OffHeapList<Integer> list = new OffHeapList<>(ElementCodec.ofInt(), 4)) {
+            for (int i = 0; i < 6; i++) {
+                list.add(i);
+            }
+
+            List<ByteBuffer> buffers = list.exportBuffers();
+
+            assertAll(
+                    () -> assertEquals(2, buffers.size()),
+                    () -> assertEquals(16, buffers.get(0).remaining()),
+                    () -> assertEquals(8, buffers.get(1).remaining()),
+                    () -> assertEquals(5, buffers.get(1).getInt(4)),
+                    () -> assertTrue(buffers.get(0).isReadOnly())
+            );
+        }
+    }
+
+    @Test
+    void close_closedList_accessFails() {
+        OffHeapList<Integer> list = new OffHeapList<>(ElementCodec.ofInt());
+        list.add(1);
+
+        list.close();
+
+        assertAll(
+                () -> assertTrue(list.isClosed()),
+                () -> assertThrows(IllegalStateException.class, () -> list.get(0))
+        );
+    }
+
+    @Test
+    void close_chunksAllocated_directMemoryFreed() {
+        OffHeapList<Integer> list = new OffHeapList<>(ElementCodec.ofInt(), 1024);
+        for (int i = 0; i < 10 * 1024; i++) {
+            list.add(i);
+        }
+        long usedBeforeClose = directMemoryUsed();
+
+        list.close();
+
+        assertTrue(usedBeforeClose - directMemoryUsed() >= 10 * 1024 * Integer.BYTES);
+    }
+
+    @Test
+    void close_buffersExported_exportedBuffersStillReadable() {
+        OffHeapList<Integer> list = new OffHeapList<>(ElementCodec.ofInt(), 4);
+        for (int i = 0; i < 6; i++) {
+            list.add(i);
+        }
+        List<ByteBuffer> buffers = list.exportBuffers();
+        long usedBeforeClose = directMemoryUsed();
+
+        list.close();
+
+        assertAll(
+                () -> assertEquals(usedBeforeClose, directMemoryUsed()),
+                () -> assertEquals(5, buffers.get(1).getInt(Integer.BYTES))
+        );
+    }
+
+    private static long directMemoryUsed() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                return pool.getMemoryUsed();
+            }
+        }
+        throw new IllegalStateException("No direct buffer pool");
+    }
+}
@@ -0,0 +1,32 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelMergeSortTest {
+
+    @Test
+    void sort_rangeNearArrayEnd_rangeSortedAndPrefixUntouched() {
+        Integer[] array = new Integer[100_000];
+        Random random = new Random(42);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(1_000);
+        }
+        Integer[] expected = array.clone();
+        Arrays.sort(expected, 70_000, 100_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            ParallelMergeSort.sort(array, 70_000, 100_000, null, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertArrayEquals(expected, array);
+    }
+}
@@ -0,0 +1,226 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StampedLockListTest {
+
+    @Test
+    void readOperations_arrayList_delegated() {
+        StampedLockList<String> list = new StampedLockList<>(ArrayListImpl.of("123", "qwerty", "123"));
+
+        assertAll(
+                () -> assertEquals(3, list.size()),
+                () -> assertEquals("qwerty", list.get(1)),
+                () -> assertEquals(0, list.indexOf("123")),
+                () -> assertEquals(2, list.lastIndexOf("123")),
+                () -> assertTrue(list.contains("qwerty")),
+                () -> assertFalse(list.contains("dummy"))
+        );
+    }
+
+    @Test
+    void readOperations_linkedList_delegated() {
+        StampedLockList<String> list = new StampedLockList<>(LinkedListImpl.of("123", "qwerty"));
+
+        assertAll(
+                () -> assertEquals(2, list.size()),
+                () -> assertEquals("qwerty", list.get(1)),
+                () -> assertEquals(1, list.indexOf("qwerty"))
+        );
+    }
+
+    @Test
+    void get_invalidIndex_exception() {
+        StampedLockList<String> list = new StampedLockList<>(new ArrayListImpl<>());
+
+        assertThrows(IllegalArgumentException.class, () -> list.get(0));
+    }
+
+    @Test
+    void addIfAbsent_existingElement_false() {
+        StampedLockList<String> list = new StampedLockList<>(new LinkedListImpl<>());
+
+        assertAll(
+                () -> assertTrue(list.addIfAbsent("123")),
+                () -> assertFalse(list.addIfAbsent("123")),
+                () -> assertEquals(1, list.size())
+        );
+    }
+
+    @Test
+    void computeAt_elementAtPos1_replacedWithComputed() {
+        StampedLockList<Integer> list = new StampedLockList<>(ArrayListImpl.of(1, 2, 3));
+
+        Integer computed = list.computeAt(1, i -> i * 10);
+
+        assertAll(
+                () -> assertEquals(20, computed),
+                () -> assertEquals(20, list.get(1))
+        );
+    }
+
+    @Test
+    void drain_elements_returnedAndListEmpty() {
+        StampedLockList<String> list = new StampedLockList<>(ArrayListImpl.of("123", "qwerty"));
+
+        List<String> drained = list.drain();
+
+        assertAll(
+                () -> assertIterableEquals(Arrays.asList("123", "qwerty"), drained),
+                () -> assertTrue(list.isEmpty())
+        );
+    }
+
+    @Test
+    void iterator_listModifiedAfterCreation_iteratesSnapshot() {
+        StampedLockList<String> list = new StampedLockList<>(ArrayListImpl.of("123", "qwerty"));
+
+        Iterator<String> iterator = list.iterator();
+        list.clear();
+
+        assertAll(
+                () -> assertEquals("123", iterator.next()),
+                () -> assertEquals("qwerty", iterator.next()),
+                () -> assertFalse(iterator.hasNext())
+        );
+    }
+
+    @Test
+    void subList_clearSortRemoveIfSet_appliedToRange() {
+        StampedLockList<Integer> list = new StampedLockList<>(ArrayListImpl.of(1, 9, 8, 7, 6, 5, 2));
+
+        List<Integer> view = list.subList(1, 6);
+        view.sort(null);
+        view.set(0, 50);
+        view.removeIf(element -> element % 2 == 0);
+        view.subList(1, 2).clear();
+
+        assertAll(
+                () -> assertEquals(Arrays.asList(1, 7, 2), list),
+                () -> assertEquals(Collections.singletonList(7), view)
+        );
+    }
+
+    @Test
+    void subList_linkedListNestedViewEdited_enclosingViewInSync() {
+        StampedLockList<Integer> list = new StampedLockList<>(new LinkedListImpl<>());
+        list.addAll(Arrays.asList(1, 2, 3, 4, 5));
+
+        List<Integer> outer = list.subList(1, 4);
+        List<Integer> inner = outer.subList(1, 2);
+        inner.add(30);
+        inner.remove(Integer.valueOf(3));
+        List<Integer> outerAfterInnerEdits = new ArrayList<>(outer);
+        outer.add(40);
+
+        assertAll(
+                () -> assertEquals(Arrays.asList(2, 30, 4), outerAfterInnerEdits),
+                () -> assertEquals(Arrays.asList(1, 2, 30, 4, 40, 5), list),
+                () -> assertThrows(ConcurrentModificationException.class, inner::size)
+        );
+    }
+
+    @Test
+    void subList_listChangedAfterCreation_exception() {
+        StampedLockList<Integer> list = new StampedLockList<>(ArrayListImpl.of(1, 2, 3));
+
+        List<Integer> view = list.subList(0, 2);
+        list.add(4);
+
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+    }
+
+    @Test
+    void removeRange_range_removedUnderWriteLock() {
+        StampedLockList<Integer> list = new StampedLockList<>(ArrayListImpl.of(1, 2, 3, 4, 5));
+
+        list.subList(1, 4).clear();
+
+        assertEquals(Arrays.asList(1, 5), list);
+    }
+
+    @Test
+    void computeAt_concurrentIncrements_noUpdateLost() throws InterruptedException {
+        StampedLockList<Integer> list = new StampedLockList<>(new LinkedListImpl<>());
+        list.add(0);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    list.computeAt(0, value -> value + 1);
+                    list.get(0);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertEquals(4_000, list.get(0));
+    }
+
+    @Test
+    void get_linkedListReadersDuringWrites_elementsAtTheirIndexesAfterwards() throws InterruptedException {
+        LinkedListImpl<Integer> delegate = new LinkedListImpl<>();
+        for (int i = 0; i < 2_000; i++) {
+            delegate.add(i);
+        }
+        StampedLockList<Integer> list = new StampedLockList<>(delegate);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < 4; t++) {
+            int seed = t;
+            executor.execute(() -> {
+                Random random = new Random(seed);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 200_000; i++) {
+                    list.get(900 + random.nextInt(200));
+                }
+            });
+        }
+        executor.execute(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            for (int i = 0; i < 20_000; i++) {
+                list.add(0, -1);
+                list.remove(0);
+            }
+        });
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        Random random = new Random(42);
+        int wrong = 0;
+        for (int i = 0; i < 10_000; i++) {
+            int index = 900 + random.nextInt(200);
+            if (list.get(index) != index) {
+                wrong++;
+            }
+        }
+        assertEquals(0, wrong);
+    }
+}
@@ -0,0 +1,135 @@
+package ru.clevertec.custom_collection.my_list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnrolledLinkedListImplTest {
+
+    @Test
+    void noArgsConstructor_noArgs_emptyList() {
+        List<String> list = new UnrolledLinkedListImpl<>();
+
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void add_elementsOverSeveralNodes_elementsInOrder() {
+        List<Integer> list = new UnrolledLinkedListImpl<>(4);
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertAll(
+                () -> assertEquals(100, list.size()),
+                () -> assertEquals(0, list.get(0)),
+                () -> assertEquals(57, list.get(57)),
+                () -> assertEquals(99, list.get(99))
+        );
+    }
+
+    @Test
+    void add_atPosInFullNode_nodeSplit() {
+        List<String> list = new UnrolledLinkedListImpl<>(2);
+        list.add("123");
+        list.add("qwerty");
+
+        list.add(1, "test");
+
+        assertIterableEquals(Arrays.asList("123", "test", "qwerty"), list);
+    }
+
+    @Test
+    void remove_elementsFromMiddle_remainingInOrder() {
+        List<Integer> list = new UnrolledLinkedListImpl<>(4);
+        for (int i = 0; i < 12; i++) {
+            list.add(i);
+        }
+
+        for (int i = 0; i < 6; i++) {
+            list.remove(3);
+        }
+
+        assertIterableEquals(Arrays.asList(0, 1, 2, 9, 10, 11), list);
+    }
+
+    @Test
+    void indexOf_existingElement_index() {
+        List<String> list = UnrolledLinkedListImpl.of("test", "123", "qwerty", null, "123");
+
+        assertAll(
+                () -> assertEquals(1, list.indexOf("123")),
+                () -> assertEquals(4, list.lastIndexOf("123")),
+                () -> assertEquals(3, list.indexOf(null)),
+                () -> assertEquals(-1, list.indexOf("dummy"))
+        );
+    }
+
+    @Test
+    void dequeOperations_bothEnds_fifoAndLifoOrder() {
+        Deque<String> deque = new UnrolledLinkedListImpl<>(2);
+        deque.offerLast("b");
+        deque.offerLast("c");
+        deque.offerFirst("a");
+        deque.push("first");
+
+        assertAll(
+                () -> assertEquals("first", deque.pop()),
+                () -> assertEquals("a", deque.pollFirst()),
+                () -> assertEquals("c", deque.pollLast()),
+                () -> assertEquals("b", deque.peekFirst()),
+                () -> assertEquals("b", deque.removeLast()),
+                () -> assertNull(deque.pollFirst())
+        );
+    }
+
+    @Test
+    void listIterator_removeWhileIterating_evenElementsRemoved() {
+        List<Integer> list = new UnrolledLinkedListImpl<>(3);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        list.removeIf(i -> i % 2 == 0);
+
+        assertIterableEquals(Arrays.asList(1, 3, 5, 7, 9), list);
+    }
+
+    @Test
+    void iterator_modifiedDuringIteration_exception() {
+        List<String> list = UnrolledLinkedListImpl.of("123", "qwerty");
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (String s : list) {
+                list.add("test");
+            }
+        });
+    }
+
+    @Test
+    void randomOperations_comparedToLinkedList_sameContent() {
+        Random random = new Random(42);
+        List<Integer> expected = new LinkedList<>();
+        List<Integer> actual = new UnrolledLinkedListImpl<>(4);
+
+        for (int i = 0; i < 5_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), actual.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), actual.set(index, -i));
+            }
+        }
+
+        assertIterableEquals(expected, actual);
+    }
+}
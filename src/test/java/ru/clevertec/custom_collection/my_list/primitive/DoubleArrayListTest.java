@@ -0,0 +1,199 @@
+package ru.clevertec.custom_collection.my_list.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleArrayListTest {
+
+    @Test
+    void noArgsConstructor_empty_true() {
+        DoubleArrayList list = new DoubleArrayList();
+
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void addDouble_manyValues_valuesInOrder() {
+        DoubleArrayList list = new DoubleArrayList(0);
+
+        for (int i = 0; i < 10_000; i++) {
+            list.addDouble(i);
+        }
+
+        assertAll(
+                () -> assertEquals(10_000, list.size()),
+                () -> assertEquals(0.0, list.getDouble(0)),
+                () -> assertEquals(9_999.0, list.getDouble(9_999))
+        );
+    }
+
+    @Test
+    void addDouble_atPos1_valueAtPos1() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addDouble(1.5);
+        list.addDouble(2.5);
+
+        list.addDouble(1, 3.5);
+
+        assertArrayEquals(new double[]{1.5, 3.5, 2.5}, list.toDoubleArray());
+    }
+
+    @Test
+    void setDouble_valueAtPos1_previousValue() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addDouble(1.5);
+        list.addDouble(2.5);
+
+        assertAll(
+                () -> assertEquals(2.5, list.setDouble(1, 3.5)),
+                () -> assertEquals(3.5, list.getDouble(1))
+        );
+    }
+
+    @Test
+    void removeDoubleAt_existingIndex_removedValue() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addDouble(1.5);
+        list.addDouble(2.5);
+        list.addDouble(3.5);
+
+        assertAll(
+                () -> assertEquals(2.5, list.removeDoubleAt(1)),
+                () -> assertArrayEquals(new double[]{1.5, 3.5}, list.toDoubleArray())
+        );
+    }
+
+    @Test
+    void indexOfDouble_existingValue_index() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addDouble(1.5);
+        list.addDouble(2.5);
+        list.addDouble(2.5);
+
+        assertAll(
+                () -> assertEquals(1, list.indexOfDouble(2.5)),
+                () -> assertEquals(2, list.lastIndexOfDouble(2.5)),
+                () -> assertEquals(-1, list.indexOfDouble(3.5))
+        );
+    }
+
+    @Test
+    void getDouble_invalidIndex_exception() {
+        DoubleArrayList list = new DoubleArrayList();
+
+        assertThrows(IllegalArgumentException.class, () -> list.getDouble(0));
+    }
+
+    @Test
+    void iterator_values_unboxedValuesInOrder() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addDouble(1.5);
+        list.addDouble(2.5);
+
+        PrimitiveIterator.OfDouble iterator = list.iterator();
+
+        assertAll(
+                () -> assertEquals(1.5, iterator.nextDouble()),
+                () -> assertEquals(2.5, iterator.nextDouble()),
+                () -> assertFalse(iterator.hasNext())
+        );
+    }
+
+    @Test
+    void asList_modifiedView_changesVisibleInList() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addDouble(1.5);
+        List<Double> view = list.asList();
+
+        view.add(2.5);
+
+        assertAll(
+                () -> assertEquals(2, list.size()),
+                () -> assertEquals(2.5, list.getDouble(1)),
+                () -> assertTrue(view.contains(1.5))
+        );
+    }
+
+    @Test
+    void sort_unsortedValues_ascendingOrder() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addDouble(3.0);
+        list.addDouble(-1.0);
+        list.addDouble(2.0);
+
+        list.sort();
+
+        assertArrayEquals(new double[]{-1.0, 2.0, 3.0}, list.toDoubleArray());
+    }
+
+    @Test
+    void parallelSort_manyValues_ascendingOrder() {
+        DoubleArrayList list = new DoubleArrayList();
+        for (int i = 100_000; i > 0; i--) {
+            list.addDouble(i);
+        }
+
+        list.parallelSort();
+
+        assertAll(
+                () -> assertEquals(1.0, list.getDouble(0)),
+                () -> assertEquals(100_000.0, list.getDouble(99_999))
+        );
+    }
+
+    @Test
+    void asListIterator_listChangedDuringIteration_exception() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addDouble(1.5);
+        list.addDouble(2.5);
+        Iterator<Double> iterator = list.asList().iterator();
+        iterator.next();
+
+        list.removeDoubleAt(0);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void asList_viewChangedDuringIteration_exception() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addDouble(1.5);
+        list.addDouble(2.5);
+        List<Double> view = list.asList();
+        PrimitiveIterator.OfDouble iterator = list.iterator();
+        iterator.nextDouble();
+
+        view.add(0, 3.5);
+
+        assertThrows(ConcurrentModificationException.class, iterator::nextDouble);
+    }
+
+    @Test
+    void serialization_listWithSlack_onlyValuesRestored() throws Exception {
+        DoubleArrayList list = new DoubleArrayList(1000);
+        list.addDouble(1.5);
+        list.addDouble(2.5);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(list);
+        }
+
+        DoubleArrayList copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (DoubleArrayList) in.readObject();
+        }
+        copy.addDouble(3.5);
+
+        assertAll(
+                () -> assertTrue(bytes.size() < 1000),
+                () -> assertArrayEquals(new double[]{1.5, 2.5, 3.5}, copy.toDoubleArray())
+        );
+    }
+}
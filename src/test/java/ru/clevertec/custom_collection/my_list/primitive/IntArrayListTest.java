@@ -0,0 +1,199 @@
+package ru.clevertec.custom_collection.my_list.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntArrayListTest {
+
+    @Test
+    void noArgsConstructor_empty_true() {
+        IntArrayList list = new IntArrayList();
+
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void addInt_manyValues_valuesInOrder() {
+        IntArrayList list = new IntArrayList(0);
+
+        for (int i = 0; i < 10_000; i++) {
+            list.addInt(i);
+        }
+
+        assertAll(
+                () -> assertEquals(10_000, list.size()),
+                () -> assertEquals(0, list.getInt(0)),
+                () -> assertEquals(9_999, list.getInt(9_999))
+        );
+    }
+
+    @Test
+    void addInt_atPos1_valueAtPos1() {
+        IntArrayList list = new IntArrayList();
+        list.addInt(1);
+        list.addInt(2);
+
+        list.addInt(1, 3);
+
+        assertArrayEquals(new int[]{1, 3, 2}, list.toIntArray());
+    }
+
+    @Test
+    void setInt_valueAtPos1_previousValue() {
+        IntArrayList list = new IntArrayList();
+        list.addInt(1);
+        list.addInt(2);
+
+        assertAll(
+                () -> assertEquals(2, list.setInt(1, 3)),
+                () -> assertEquals(3, list.getInt(1))
+        );
+    }
+
+    @Test
+    void removeIntAt_existingIndex_removedValue() {
+        IntArrayList list = new IntArrayList();
+        list.addInt(1);
+        list.addInt(2);
+        list.addInt(3);
+
+        assertAll(
+                () -> assertEquals(2, list.removeIntAt(1)),
+                () -> assertArrayEquals(new int[]{1, 3}, list.toIntArray())
+        );
+    }
+
+    @Test
+    void indexOfInt_existingValue_index() {
+        IntArrayList list = new IntArrayList();
+        list.addInt(1);
+        list.addInt(2);
+        list.addInt(2);
+
+        assertAll(
+                () -> assertEquals(1, list.indexOfInt(2)),
+                () -> assertEquals(2, list.lastIndexOfInt(2)),
+                () -> assertEquals(-1, list.indexOfInt(3))
+        );
+    }
+
+    @Test
+    void getInt_invalidIndex_exception() {
+        IntArrayList list = new IntArrayList();
+
+        assertThrows(IllegalArgumentException.class, () -> list.getInt(0));
+    }
+
+    @Test
+    void iterator_values_unboxedValuesInOrder() {
+        IntArrayList list = new IntArrayList();
+        list.addInt(1);
+        list.addInt(2);
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+
+        assertAll(
+                () -> assertEquals(1, iterator.nextInt()),
+                () -> assertEquals(2, iterator.nextInt()),
+                () -> assertFalse(iterator.hasNext())
+        );
+    }
+
+    @Test
+    void asList_modifiedView_changesVisibleInList() {
+        IntArrayList list = new IntArrayList();
+        list.addInt(1);
+        List<Integer> view = list.asList();
+
+        view.add(2);
+
+        assertAll(
+                () -> assertEquals(2, list.size()),
+                () -> assertEquals(2, list.getInt(1)),
+                () -> assertTrue(view.contains(1))
+        );
+    }
+
+    @Test
+    void sort_unsortedValues_ascendingOrder() {
+        IntArrayList list = new IntArrayList();
+        list.addInt(3);
+        list.addInt(-1);
+        list.addInt(2);
+
+        list.sort();
+
+        assertArrayEquals(new int[]{-1, 2, 3}, list.toIntArray());
+    }
+
+    @Test
+    void parallelSort_manyValues_ascendingOrder() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 100_000; i > 0; i--) {
+            list.addInt(i);
+        }
+
+        list.parallelSort();
+
+        assertAll(
+                () -> assertEquals(1, list.getInt(0)),
+                () -> assertEquals(100_000, list.getInt(99_999))
+        );
+    }
+
+    @Test
+    void asListIterator_listChangedDuringIteration_exception() {
+        IntArrayList list = new IntArrayList();
+        list.addInt(1);
+        list.addInt(2);
+        Iterator<Integer> iterator = list.asList().iterator();
+        iterator.next();
+
+        list.removeIntAt(0);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void asList_viewChangedDuringIteration_exception() {
+        IntArrayList list = new IntArrayList();
+        list.addInt(1);
+        list.addInt(2);
+        List<Integer> view = list.asList();
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        iterator.nextInt();
+
+        view.add(0, 3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+    }
+
+    @Test
+    void serialization_listWithSlack_onlyValuesRestored() throws Exception {
+        IntArrayList list = new IntArrayList(1000);
+        list.addInt(1);
+        list.addInt(2);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(list);
+        }
+
+        IntArrayList copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (IntArrayList) in.readObject();
+        }
+        copy.addInt(3);
+
+        assertAll(
+                () -> assertTrue(bytes.size() < 1000),
+                () -> assertArrayEquals(new int[]{1, 2, 3}, copy.toIntArray())
+        );
+    }
+}
@@ -0,0 +1,199 @@
+package ru.clevertec.custom_collection.my_list.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongArrayListTest {
+
+    @Test
+    void noArgsConstructor_empty_true() {
+        LongArrayList list = new LongArrayList();
+
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void addLong_manyValues_valuesInOrder() {
+        LongArrayList list = new LongArrayList(0);
+
+        for (int i = 0; i < 10_000; i++) {
+            list.addLong(i);
+        }
+
+        assertAll(
+                () -> assertEquals(10_000, list.size()),
+                () -> assertEquals(0L, list.getLong(0)),
+                () -> assertEquals(9_999L, list.getLong(9_999))
+        );
+    }
+
+    @Test
+    void addLong_atPos1_valueAtPos1() {
+        LongArrayList list = new LongArrayList();
+        list.addLong(1L);
+        list.addLong(2L);
+
+        list.addLong(1, 3L);
+
+        assertArrayEquals(new long[]{1L, 3L, 2L}, list.toLongArray());
+    }
+
+    @Test
+    void setLong_valueAtPos1_previousValue() {
+        LongArrayList list = new LongArrayList();
+        list.addLong(1L);
+        list.addLong(2L);
+
+        assertAll(
+                () -> assertEquals(2L, list.setLong(1, 3L)),
+                () -> assertEquals(3L, list.getLong(1))
+        );
+    }
+
+    @Test
+    void removeLongAt_existingIndex_removedValue() {
+        LongArrayList list = new LongArrayList();
+        list.addLong(1L);
+        list.addLong(2L);
+        list.addLong(3L);
+
+        assertAll(
+                () -> assertEquals(2L, list.removeLongAt(1)),
+                () -> assertArrayEquals(new long[]{1L, 3L}, list.toLongArray())
+        );
+    }
+
+    @Test
+    void indexOfLong_existingValue_index() {
+        LongArrayList list = new LongArrayList();
+        list.addLong(1L);
+        list.addLong(2L);
+        list.addLong(2L);
+
+        assertAll(
+                () -> assertEquals(1, list.indexOfLong(2L)),
+                () -> assertEquals(2, list.lastIndexOfLong(2L)),
+                () -> assertEquals(-1, list.indexOfLong(3L))
+        );
+    }
+
+    @Test
+    void getLong_invalidIndex_exception() {
+        LongArrayList list = new LongArrayList();
+
+        assertThrows(IllegalArgumentException.class, () -> list.getLong(0));
+    }
+
+    @Test
+    void iterator_values_unboxedValuesInOrder() {
+        LongArrayList list = new LongArrayList();
+        list.addLong(1L);
+        list.addLong(2L);
+
+        PrimitiveIterator.OfLong iterator = list.iterator();
+
+        assertAll(
+                () -> assertEquals(1L, iterator.nextLong()),
+                () -> assertEquals(2L, iterator.nextLong()),
+                () -> assertFalse(iterator.hasNext())
+        );
+    }
+
+    @Test
+    void asList_modifiedView_changesVisibleInList() {
+        LongArrayList list = new LongArrayList();
+        list.addLong(1L);
+        List<Long> view = list.asList();
+
+        view.add(2L);
+
+        assertAll(
+                () -> assertEquals(2, list.size()),
+                () -> assertEquals(2L, list.getLong(1)),
+                () -> assertTrue(view.contains(1L))
+        );
+    }
+
+    @Test
+    void sort_unsortedValues_ascendingOrder() {
+        LongArrayList list = new LongArrayList();
+        list.addLong(3L);
+        list.addLong(-1L);
+        list.addLong(2L);
+
+        list.sort();
+
+        assertArrayEquals(new long[]{-1L, 2L, 3L}, list.toLongArray());
+    }
+
+    @Test
+    void parallelSort_manyValues_ascendingOrder() {
+        LongArrayList list = new LongArrayList();
+        for (int i = 100_000; i > 0; i--) {
+            list.addLong(i);
+        }
+
+        list.parallelSort();
+
+        assertAll(
+                () -> assertEquals(1L, list.getLong(0)),
+                () -> assertEquals(100_000L, list.getLong(99_999))
+        );
+    }
+
+    @Test
+    void asListIterator_listChangedDuringIteration_exception() {
+        LongArrayList list = new LongArrayList();
+        list.addLong(1L);
+        list.addLong(2L);
+        Iterator<Long> iterator = list.asList().iterator();
+        iterator.next();
+
+        list.removeLongAt(0);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void asList_viewChangedDuringIteration_exception() {
+        LongArrayList list = new LongArrayList();
+        list.addLong(1L);
+        list.addLong(2L);
+        List<Long> view = list.asList();
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        iterator.nextLong();
+
+        view.add(0, 3L);
+
+        assertThrows(ConcurrentModificationException.class, iterator::nextLong);
+    }
+
+    @Test
+    void serialization_listWithSlack_onlyValuesRestored() throws Exception {
+        LongArrayList list = new LongArrayList(1000);
+        list.addLong(1L);
+        list.addLong(2L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(list);
+        }
+
+        LongArrayList copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (LongArrayList) in.readObject();
+        }
+        copy.addLong(3L);
+
+        assertAll(
+                () -> assertTrue(bytes.size() < 1000),
+                () -> assertArrayEquals(new long[]{1L, 2L, 3L}, copy.toLongArray())
+        );
+    }
+}